@@ -0,0 +1,98 @@
+package bayern.steinbrecher.javaUtility;
+
+import javafx.beans.binding.BooleanBinding;
+import javafx.beans.binding.NumberBinding;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures creating the bindings of {@link BindingUtility} as well as updating a value they depend on and reading the
+ * recomputed result. Every benchmark thread uses its own bindings since JavaFX bindings are not thread safe.
+ *
+ * @author Stefan Huber
+ * @since 0.19
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BindingUtilityBenchmark {
+    /* NOTE The bindings form a chain whose evaluation recurses once per element. Hence, very large sizes cause a
+     * StackOverflowError.
+     */
+    @Param({"10", "100", "1000"})
+    private int size;
+    @Param({"false", "true"})
+    private boolean profiled;
+    private IntegerProperty[] numbers;
+    private BooleanProperty[] flags;
+    private NumberBinding sum;
+    private BooleanBinding disjunction;
+    private int counter;
+
+    /**
+     * The profiler is enabled for the whole trial since all benchmark threads of a trial share the same value of
+     * {@link #profiled}. Toggling it within the measured methods would add its costs to the measurement.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        BindingProfiler.setEnabled(profiled);
+        numbers = new IntegerProperty[size];
+        flags = new BooleanProperty[size];
+        for (int i = 0; i < size; i++) {
+            numbers[i] = new SimpleIntegerProperty(i);
+            flags[i] = new SimpleBooleanProperty(false);
+        }
+        sum = BindingUtility.reduceSum(Arrays.stream(numbers));
+        disjunction = BindingUtility.reduceOr(Arrays.stream(flags));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BindingProfiler.setEnabled(false);
+        BindingProfiler.reset();
+    }
+
+    @Benchmark
+    public NumberBinding createReduceSum() {
+        return BindingUtility.reduceSum(Arrays.stream(numbers));
+    }
+
+    @Benchmark
+    public BooleanBinding createReduceOr() {
+        return BindingUtility.reduceOr(Arrays.stream(flags));
+    }
+
+    @Benchmark
+    public int updateReduceSum() {
+        numbers[0].set(counter++);
+        return sum.intValue();
+    }
+
+    @Benchmark
+    public boolean updateReduceOr() {
+        BooleanProperty first = flags[0];
+        first.set(!first.get());
+        return disjunction.get();
+    }
+}
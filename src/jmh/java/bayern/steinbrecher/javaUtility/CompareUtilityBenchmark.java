@@ -0,0 +1,113 @@
+package bayern.steinbrecher.javaUtility;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares clamping arrays of samples element by element using the generic {@link CompareUtility#clamp(Comparable,
+ * Comparable, Comparable)} with the primitive and the bulk variants.
+ *
+ * @author Stefan Huber
+ * @since 0.19
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompareUtilityBenchmark {
+    private static final int INT_MIN = -1000;
+    private static final int INT_MAX = 1000;
+    private static final double DOUBLE_MIN = -1;
+    private static final double DOUBLE_MAX = 1;
+    private static final Integer BOXED_INT_MIN = INT_MIN;
+    private static final Integer BOXED_INT_MAX = INT_MAX;
+    private static final Double BOXED_DOUBLE_MIN = DOUBLE_MIN;
+    private static final Double BOXED_DOUBLE_MAX = DOUBLE_MAX;
+    @Param({"1024", "65536"})
+    private int size;
+    private int[] intSamples;
+    private double[] doubleSamples;
+    private Integer[] boxedIntSamples;
+    private Double[] boxedDoubleSamples;
+    private int[] intResult;
+    private double[] doubleResult;
+    private Integer[] boxedIntResult;
+    private Double[] boxedDoubleResult;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        intSamples = new int[size];
+        doubleSamples = new double[size];
+        boxedIntSamples = new Integer[size];
+        boxedDoubleSamples = new Double[size];
+        for (int i = 0; i < size; i++) {
+            intSamples[i] = random.nextInt(4 * INT_MIN, 4 * INT_MAX);
+            doubleSamples[i] = random.nextDouble(4 * DOUBLE_MIN, 4 * DOUBLE_MAX);
+            boxedIntSamples[i] = intSamples[i];
+            boxedDoubleSamples[i] = doubleSamples[i];
+        }
+        intResult = new int[size];
+        doubleResult = new double[size];
+        boxedIntResult = new Integer[size];
+        boxedDoubleResult = new Double[size];
+    }
+
+    @Benchmark
+    public Integer[] clampIntGeneric() {
+        for (int i = 0; i < size; i++) {
+            boxedIntResult[i] = CompareUtility.clamp(boxedIntSamples[i], BOXED_INT_MIN, BOXED_INT_MAX);
+        }
+        return boxedIntResult;
+    }
+
+    @Benchmark
+    public int[] clampIntPrimitive() {
+        for (int i = 0; i < size; i++) {
+            intResult[i] = CompareUtility.clampInt(intSamples[i], INT_MIN, INT_MAX);
+        }
+        return intResult;
+    }
+
+    @Benchmark
+    public int[] clampIntBulk() {
+        CompareUtility.clampAll(intSamples, intResult, INT_MIN, INT_MAX);
+        return intResult;
+    }
+
+    @Benchmark
+    public Double[] clampDoubleGeneric() {
+        for (int i = 0; i < size; i++) {
+            boxedDoubleResult[i] = CompareUtility.clamp(boxedDoubleSamples[i], BOXED_DOUBLE_MIN, BOXED_DOUBLE_MAX);
+        }
+        return boxedDoubleResult;
+    }
+
+    @Benchmark
+    public double[] clampDoublePrimitive() {
+        for (int i = 0; i < size; i++) {
+            doubleResult[i] = CompareUtility.clampDouble(doubleSamples[i], DOUBLE_MIN, DOUBLE_MAX);
+        }
+        return doubleResult;
+    }
+
+    @Benchmark
+    public double[] clampDoubleBulk() {
+        CompareUtility.clampAll(doubleSamples, doubleResult, DOUBLE_MIN, DOUBLE_MAX);
+        return doubleResult;
+    }
+}
@@ -0,0 +1,43 @@
+package bayern.steinbrecher.javaUtility;
+
+import bayern.steinbrecher.jsch.ChannelExec;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+/**
+ * A {@link ChannelExec} of an already finished command which serves its output from memory without any connection.
+ *
+ * @author Stefan Huber
+ * @since 0.19
+ */
+public class FakeChannelExec extends ChannelExec {
+    private final InputStream output;
+    private final InputStream error;
+
+    public FakeChannelExec(byte[] output, byte[] error) {
+        super();
+        this.output = new ByteArrayInputStream(output);
+        this.error = new ByteArrayInputStream(error);
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return output;
+    }
+
+    @Override
+    public InputStream getErrStream() {
+        return error;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return true;
+    }
+
+    @Override
+    public int getExitStatus() {
+        return 0;
+    }
+}
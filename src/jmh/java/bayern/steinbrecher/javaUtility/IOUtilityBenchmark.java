@@ -0,0 +1,100 @@
+package bayern.steinbrecher.javaUtility;
+
+import javafx.application.Platform;
+import javafx.util.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Stefan Huber
+ * @since 0.19
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IOUtilityBenchmark {
+    @Param({"1024", "65536", "1048576"})
+    private int size;
+    private byte[] content;
+    private List<List<String>> csvContent;
+    private Path csvFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        content = new byte[size];
+        Arrays.fill(content, (byte) 'a');
+
+        int numberOfColumns = 10;
+        int cellSize = 10;
+        int numberOfRows = Math.max(1, size / (numberOfColumns * cellSize));
+        String cell = "a".repeat(cellSize);
+        csvContent = new ArrayList<>(numberOfRows);
+        for (int i = 0; i < numberOfRows; i++) {
+            csvContent.add(new ArrayList<>(Collections.nCopies(numberOfColumns, cell)));
+        }
+        csvFile = Files.createTempFile("IOUtilityBenchmark", ".csv");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(csvFile);
+    }
+
+    /**
+     * NOTE {@link IOUtility#readAll(java.io.InputStream, java.nio.charset.Charset)} reads using
+     * {@link javafx.concurrent.Task} which requires the JavaFX toolkit to be running. Hence, this benchmark requires a
+     * display.
+     */
+    @Benchmark
+    public String readAll(FxToolkit toolkit) throws IOException {
+        return IOUtility.readAll(new ByteArrayInputStream(content), StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Pair<String, String> readChannelContinuously() throws IOException {
+        return IOUtility.readChannelContinuously(new FakeChannelExec(content, new byte[0]), StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Path writeCSV() throws IOException {
+        IOUtility.writeCSV(csvFile, csvContent, CSVFormat.EXCEL);
+        return csvFile;
+    }
+
+    @State(Scope.Benchmark)
+    public static class FxToolkit {
+        @Setup
+        public void startUp() {
+            try {
+                Platform.startup(() -> {
+                });
+            } catch (IllegalStateException ex) {
+                // The toolkit is already running
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package bayern.steinbrecher.javaUtility;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Since {@link SupplyingMap} is not thread safe every benchmark thread uses its own map.
+ *
+ * @author Stefan Huber
+ * @since 0.19
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SupplyingMapBenchmark {
+    @Param({"16", "1024", "65536"})
+    private int numberOfKeys;
+    private Integer[] keys;
+    private SupplyingMap<Integer, List<String>> populatedMap;
+
+    @Setup
+    public void setUp() {
+        keys = new Integer[numberOfKeys];
+        populatedMap = new SupplyingMap<>(key -> new ArrayList<>());
+        for (int i = 0; i < numberOfKeys; i++) {
+            keys[i] = i;
+            populatedMap.get(keys[i]);
+        }
+    }
+
+    @Benchmark
+    public void getExisting(Blackhole blackhole) {
+        for (Integer key : keys) {
+            blackhole.consume(populatedMap.get(key));
+        }
+    }
+
+    @Benchmark
+    public void getSupplied(Blackhole blackhole) {
+        SupplyingMap<Integer, List<String>> emptyMap = new SupplyingMap<>(key -> new ArrayList<>());
+        for (Integer key : keys) {
+            blackhole.consume(emptyMap.get(key));
+        }
+    }
+}
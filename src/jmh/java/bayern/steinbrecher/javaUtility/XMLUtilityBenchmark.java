@@ -0,0 +1,92 @@
+package bayern.steinbrecher.javaUtility;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xml.sax.SAXException;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Stefan Huber
+ * @since 0.19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XMLUtilityBenchmark {
+    private static final String SCHEMA = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <xs:schema xmlns:xs="http://www.w3.org/2001/XMLSchema">
+                <xs:element name="items">
+                    <xs:complexType>
+                        <xs:sequence>
+                            <xs:element name="item" minOccurs="0" maxOccurs="unbounded">
+                                <xs:complexType>
+                                    <xs:simpleContent>
+                                        <xs:extension base="xs:string">
+                                            <xs:attribute name="id" type="xs:int" use="required"/>
+                                        </xs:extension>
+                                    </xs:simpleContent>
+                                </xs:complexType>
+                            </xs:element>
+                        </xs:sequence>
+                    </xs:complexType>
+                </xs:element>
+            </xs:schema>
+            """;
+    @Param({"10", "1000", "100000"})
+    private int numberOfElements;
+    private Path schemaFile;
+    private URL schema;
+    private String validXml;
+    private String invalidXml;
+
+    @Setup
+    public void setUp() throws IOException {
+        schemaFile = Files.createTempFile("XMLUtilityBenchmark", ".xsd");
+        Files.writeString(schemaFile, SCHEMA);
+        schema = schemaFile.toUri().toURL();
+
+        StringBuilder xml = new StringBuilder("<items>");
+        for (int i = 0; i < numberOfElements; i++) {
+            xml.append("<item id=\"")
+                    .append(i)
+                    .append("\">content</item>");
+        }
+        validXml = xml + "</items>";
+        invalidXml = xml + "<item id=\"notANumber\">content</item></items>";
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(schemaFile);
+    }
+
+    @Benchmark
+    public Optional<String> isValidXMLValid() throws SAXException, IOException {
+        return XMLUtility.isValidXML(validXml, schema);
+    }
+
+    @Benchmark
+    public Optional<String> isValidXMLInvalid() throws SAXException, IOException {
+        return XMLUtility.isValidXML(invalidXml, schema);
+    }
+}
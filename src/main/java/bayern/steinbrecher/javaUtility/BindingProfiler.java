@@ -0,0 +1,465 @@
+package bayern.steinbrecher.javaUtility;
+
+import javafx.beans.Observable;
+import javafx.beans.binding.BooleanBinding;
+import javafx.beans.binding.DoubleBinding;
+import javafx.beans.binding.FloatBinding;
+import javafx.beans.binding.IntegerBinding;
+import javafx.beans.binding.LongBinding;
+import javafx.beans.binding.NumberBinding;
+import javafx.beans.value.ObservableBooleanValue;
+import javafx.beans.value.ObservableDoubleValue;
+import javafx.beans.value.ObservableFloatValue;
+import javafx.beans.value.ObservableLongValue;
+import javafx.beans.value.ObservableNumberValue;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.jetbrains.annotations.NotNull;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in instrumentation of the bindings created by {@link BindingUtility}. While the profiler is disabled
+ * {@link BindingUtility} creates plain JavaFX bindings, i.e. there is no overhead at all. While it is enabled every
+ * binding created by {@link BindingUtility} counts its invalidations and recomputations, measures the time spent in
+ * {@code computeValue()} and records its depth and fan-out within the graph of profiled bindings. Enabling or
+ * disabling the profiler only affects bindings created afterwards.
+ *
+ * @author Stefan Huber
+ * @since 0.19
+ */
+public final class BindingProfiler {
+    private static final String MBEAN_NAME = "bayern.steinbrecher.javaUtility:type=BindingProfiler";
+    private static final Map<ObservableValue<?>, Probe> PROBES = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final AtomicLong NEXT_ID = new AtomicLong();
+    private static volatile boolean enabled = false;
+
+    private BindingProfiler() {
+        throw new UnsupportedOperationException("The construction of instances is prohibited");
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        BindingProfiler.enabled = enabled;
+    }
+
+    /**
+     * Forgets about all bindings profiled so far.
+     */
+    public static void reset() {
+        PROBES.clear();
+    }
+
+    /**
+     * @return The statistics of all profiled bindings which are not garbage collected yet.
+     */
+    @NotNull
+    public static List<BindingStatistics> snapshot() {
+        List<Probe> probes;
+        synchronized (PROBES) {
+            probes = new ArrayList<>(PROBES.values());
+        }
+        List<BindingStatistics> statistics = new ArrayList<>(probes.size());
+        for (Probe probe : probes) {
+            statistics.add(probe.toStatistics());
+        }
+        return statistics;
+    }
+
+    /**
+     * @return At most {@code limit} bindings sorted descending by the time they spent in {@code computeValue()}.
+     */
+    @NotNull
+    public static List<BindingStatistics> getHotSpots(int limit) {
+        return snapshot()
+                .stream()
+                .sorted(Comparator.comparingLong(BindingStatistics::getComputeTimeNanos).reversed())
+                .limit(Math.max(0, limit))
+                .toList();
+    }
+
+    /**
+     * Registers a {@link BindingProfilerMXBean} at the platform MBean server.
+     *
+     * @throws JMException Thrown if the MBean could not be registered, e.g. if it is already registered.
+     */
+    public static void registerMBean() throws JMException {
+        ManagementFactory.getPlatformMBeanServer()
+                .registerMBean(new ProfilerMXBean(), new ObjectName(MBEAN_NAME));
+    }
+
+    /**
+     * Unregisters the {@link BindingProfilerMXBean} from the platform MBean server.
+     *
+     * @throws JMException Thrown if the MBean is not registered.
+     */
+    public static void unregisterMBean() throws JMException {
+        ManagementFactory.getPlatformMBeanServer()
+                .unregisterMBean(new ObjectName(MBEAN_NAME));
+    }
+
+    @NotNull
+    private static Probe createProbe(@NotNull String operation, @NotNull ObservableValue<?>... dependencies) {
+        int depth = 0;
+        List<Probe> dependencyProbes = new ArrayList<>(dependencies.length);
+        for (ObservableValue<?> dependency : dependencies) {
+            Probe dependencyProbe = PROBES.get(dependency);
+            if (dependencyProbe != null) {
+                dependencyProbes.add(dependencyProbe);
+                depth = Math.max(depth, dependencyProbe.depth);
+            }
+        }
+        dependencyProbes.forEach(p -> p.fanOut.incrementAndGet());
+        return new Probe(operation + "#" + NEXT_ID.getAndIncrement(), depth + 1);
+    }
+
+    @NotNull
+    private static <B extends ObservableValue<?>> B register(@NotNull B binding, @NotNull Probe probe) {
+        PROBES.put(binding, probe);
+        return binding;
+    }
+
+    @NotNull
+    static NumberBinding add(@NotNull ObservableNumberValue op1, @NotNull ObservableNumberValue op2) {
+        Probe probe = createProbe("sum", op1, op2);
+        Operands operands = new Operands(op1, op2);
+        NumberBinding sum;
+        if (op1 instanceof ObservableDoubleValue || op2 instanceof ObservableDoubleValue) {
+            sum = new DoubleBinding() {
+                {
+                    bind(operands.observables);
+                }
+
+                @Override
+                protected double computeValue() {
+                    long start = probe.startComputation();
+                    try {
+                        return op1.doubleValue() + op2.doubleValue();
+                    } finally {
+                        probe.stopComputation(start);
+                    }
+                }
+
+                @Override
+                protected void onInvalidating() {
+                    probe.invalidated();
+                }
+
+                @Override
+                public void dispose() {
+                    unbind(operands.observables);
+                }
+
+                @Override
+                public ObservableList<?> getDependencies() {
+                    return operands.dependencies;
+                }
+            };
+        } else if (op1 instanceof ObservableFloatValue || op2 instanceof ObservableFloatValue) {
+            sum = new FloatBinding() {
+                {
+                    bind(operands.observables);
+                }
+
+                @Override
+                protected float computeValue() {
+                    long start = probe.startComputation();
+                    try {
+                        return op1.floatValue() + op2.floatValue();
+                    } finally {
+                        probe.stopComputation(start);
+                    }
+                }
+
+                @Override
+                protected void onInvalidating() {
+                    probe.invalidated();
+                }
+
+                @Override
+                public void dispose() {
+                    unbind(operands.observables);
+                }
+
+                @Override
+                public ObservableList<?> getDependencies() {
+                    return operands.dependencies;
+                }
+            };
+        } else if (op1 instanceof ObservableLongValue || op2 instanceof ObservableLongValue) {
+            sum = new LongBinding() {
+                {
+                    bind(operands.observables);
+                }
+
+                @Override
+                protected long computeValue() {
+                    long start = probe.startComputation();
+                    try {
+                        return op1.longValue() + op2.longValue();
+                    } finally {
+                        probe.stopComputation(start);
+                    }
+                }
+
+                @Override
+                protected void onInvalidating() {
+                    probe.invalidated();
+                }
+
+                @Override
+                public void dispose() {
+                    unbind(operands.observables);
+                }
+
+                @Override
+                public ObservableList<?> getDependencies() {
+                    return operands.dependencies;
+                }
+            };
+        } else {
+            sum = new IntegerBinding() {
+                {
+                    bind(operands.observables);
+                }
+
+                @Override
+                protected int computeValue() {
+                    long start = probe.startComputation();
+                    try {
+                        return op1.intValue() + op2.intValue();
+                    } finally {
+                        probe.stopComputation(start);
+                    }
+                }
+
+                @Override
+                protected void onInvalidating() {
+                    probe.invalidated();
+                }
+
+                @Override
+                public void dispose() {
+                    unbind(operands.observables);
+                }
+
+                @Override
+                public ObservableList<?> getDependencies() {
+                    return operands.dependencies;
+                }
+            };
+        }
+        return register(sum, probe);
+    }
+
+    @NotNull
+    static BooleanBinding or(@NotNull ObservableBooleanValue op1, @NotNull ObservableBooleanValue op2) {
+        Probe probe = createProbe("or", op1, op2);
+        Operands operands = new Operands(op1, op2);
+        return register(new BooleanBinding() {
+            {
+                bind(operands.observables);
+            }
+
+            @Override
+            protected boolean computeValue() {
+                long start = probe.startComputation();
+                try {
+                    return op1.get() || op2.get();
+                } finally {
+                    probe.stopComputation(start);
+                }
+            }
+
+            @Override
+            protected void onInvalidating() {
+                probe.invalidated();
+            }
+
+            @Override
+            public void dispose() {
+                unbind(operands.observables);
+            }
+
+            @Override
+            public ObservableList<?> getDependencies() {
+                return operands.dependencies;
+            }
+        }, probe);
+    }
+
+    @NotNull
+    static BooleanBinding and(@NotNull ObservableBooleanValue op1, @NotNull ObservableBooleanValue op2) {
+        Probe probe = createProbe("and", op1, op2);
+        Operands operands = new Operands(op1, op2);
+        return register(new BooleanBinding() {
+            {
+                bind(operands.observables);
+            }
+
+            @Override
+            protected boolean computeValue() {
+                long start = probe.startComputation();
+                try {
+                    return op1.get() && op2.get();
+                } finally {
+                    probe.stopComputation(start);
+                }
+            }
+
+            @Override
+            protected void onInvalidating() {
+                probe.invalidated();
+            }
+
+            @Override
+            public void dispose() {
+                unbind(operands.observables);
+            }
+
+            @Override
+            public ObservableList<?> getDependencies() {
+                return operands.dependencies;
+            }
+        }, probe);
+    }
+
+    /**
+     * The operands of a profiled binding. All profiled bindings bind to, unbind from and report their dependencies
+     * using it so that they behave like the bindings of {@link javafx.beans.binding.Bindings} they replace.
+     */
+    private static final class Operands {
+        private final Observable[] observables;
+        private final ObservableList<?> dependencies;
+
+        private Operands(@NotNull Observable op1, @NotNull Observable op2) {
+            observables = new Observable[]{op1, op2};
+            dependencies = (op1 == op2)
+                    ? FXCollections.singletonObservableList(op1)
+                    : FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(op1, op2));
+        }
+    }
+
+    /**
+     * The mutable counters of a single profiled binding. It intentionally does not reference its binding so that
+     * profiling does not prevent bindings from being garbage collected.
+     */
+    private static final class Probe {
+        private final String name;
+        private final int depth;
+        private final AtomicInteger fanOut = new AtomicInteger();
+        private final LongAdder invalidations = new LongAdder();
+        private final LongAdder recomputations = new LongAdder();
+        private final LongAdder computeTimeNanos = new LongAdder();
+
+        private Probe(String name, int depth) {
+            this.name = name;
+            this.depth = depth;
+        }
+
+        private void invalidated() {
+            invalidations.increment();
+        }
+
+        private long startComputation() {
+            return System.nanoTime();
+        }
+
+        private void stopComputation(long start) {
+            computeTimeNanos.add(System.nanoTime() - start);
+            recomputations.increment();
+        }
+
+        private BindingStatistics toStatistics() {
+            return new BindingStatistics(name, invalidations.sum(), recomputations.sum(), computeTimeNanos.sum(),
+                    depth, fanOut.get());
+        }
+    }
+
+    private static final class ProfilerMXBean implements BindingProfilerMXBean {
+        @Override
+        public boolean isEnabled() {
+            return BindingProfiler.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            BindingProfiler.setEnabled(enabled);
+        }
+
+        @Override
+        public int getTrackedBindingCount() {
+            return PROBES.size();
+        }
+
+        @Override
+        public long getTotalInvalidationCount() {
+            return snapshot()
+                    .stream()
+                    .mapToLong(BindingStatistics::getInvalidationCount)
+                    .sum();
+        }
+
+        @Override
+        public long getTotalRecomputationCount() {
+            return snapshot()
+                    .stream()
+                    .mapToLong(BindingStatistics::getRecomputationCount)
+                    .sum();
+        }
+
+        @Override
+        public long getTotalComputeTimeNanos() {
+            return snapshot()
+                    .stream()
+                    .mapToLong(BindingStatistics::getComputeTimeNanos)
+                    .sum();
+        }
+
+        @Override
+        public int getMaxDepth() {
+            return snapshot()
+                    .stream()
+                    .mapToInt(BindingStatistics::getDepth)
+                    .max()
+                    .orElse(0);
+        }
+
+        @Override
+        public int getMaxFanOut() {
+            return snapshot()
+                    .stream()
+                    .mapToInt(BindingStatistics::getFanOut)
+                    .max()
+                    .orElse(0);
+        }
+
+        @Override
+        public String[] getHotSpots(int limit) {
+            return BindingProfiler.getHotSpots(limit)
+                    .stream()
+                    .map(BindingStatistics::toString)
+                    .toArray(String[]::new);
+        }
+
+        @Override
+        public void reset() {
+            BindingProfiler.reset();
+        }
+    }
+}
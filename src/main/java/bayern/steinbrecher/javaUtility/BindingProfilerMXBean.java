@@ -0,0 +1,32 @@
+package bayern.steinbrecher.javaUtility;
+
+/**
+ * JMX view on {@link BindingProfiler}.
+ *
+ * @author Stefan Huber
+ * @since 0.19
+ */
+public interface BindingProfilerMXBean {
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    int getTrackedBindingCount();
+
+    long getTotalInvalidationCount();
+
+    long getTotalRecomputationCount();
+
+    long getTotalComputeTimeNanos();
+
+    int getMaxDepth();
+
+    int getMaxFanOut();
+
+    /**
+     * @return Descriptions of at most {@code limit} bindings which spent the most time in {@code computeValue()}.
+     */
+    String[] getHotSpots(int limit);
+
+    void reset();
+}
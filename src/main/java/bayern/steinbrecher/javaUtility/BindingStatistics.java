@@ -0,0 +1,66 @@
+package bayern.steinbrecher.javaUtility;
+
+/**
+ * An immutable snapshot of the statistics {@link BindingProfiler} collected for a single binding.
+ *
+ * @author Stefan Huber
+ * @since 0.19
+ */
+public final class BindingStatistics {
+    private final String name;
+    private final long invalidationCount;
+    private final long recomputationCount;
+    private final long computeTimeNanos;
+    private final int depth;
+    private final int fanOut;
+
+    BindingStatistics(String name, long invalidationCount, long recomputationCount, long computeTimeNanos,
+                      int depth, int fanOut) {
+        this.name = name;
+        this.invalidationCount = invalidationCount;
+        this.recomputationCount = recomputationCount;
+        this.computeTimeNanos = computeTimeNanos;
+        this.depth = depth;
+        this.fanOut = fanOut;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getInvalidationCount() {
+        return invalidationCount;
+    }
+
+    public long getRecomputationCount() {
+        return recomputationCount;
+    }
+
+    /**
+     * @return The accumulated time spent in {@code computeValue()} of the binding.
+     */
+    public long getComputeTimeNanos() {
+        return computeTimeNanos;
+    }
+
+    /**
+     * @return The length of the longest chain of profiled bindings ending in this binding. A binding which only
+     * depends on values which are not profiled has a depth of 1.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * @return The number of profiled bindings depending directly on this binding.
+     */
+    public int getFanOut() {
+        return fanOut;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (invalidations: " + invalidationCount + ", recomputations: " + recomputationCount
+                + ", compute time: " + computeTimeNanos + "ns, depth: " + depth + ", fan-out: " + fanOut + ")";
+    }
+}
@@ -53,9 +53,16 @@ public final class BindingUtility {
      *
      * @param observableValues The values to bind to a sum.
      * @return The binding representing the sum of all values within the stream.
+     * @see BindingProfiler
      */
     public static NumberBinding reduceSum(Stream<? extends ObservableNumberValue> observableValues) {
-        return observableValues.reduce(ZERO_BINDING, NumberBinding::add, NumberBinding::add);
+        NumberBinding sum;
+        if (BindingProfiler.isEnabled()) {
+            sum = observableValues.reduce(ZERO_BINDING, BindingProfiler::add, BindingProfiler::add);
+        } else {
+            sum = observableValues.reduce(ZERO_BINDING, NumberBinding::add, NumberBinding::add);
+        }
+        return sum;
     }
 
     /**
@@ -63,9 +70,16 @@ public final class BindingUtility {
      *
      * @param observableValues The stream which elements to concatenate.
      * @return The resulting {@link BooleanBinding}.
+     * @see BindingProfiler
      */
     public static BooleanBinding reduceOr(Stream<? extends ObservableBooleanValue> observableValues) {
-        return observableValues.reduce(FALSE_BINDING, BooleanBinding::or, BooleanBinding::or);
+        BooleanBinding disjunction;
+        if (BindingProfiler.isEnabled()) {
+            disjunction = observableValues.reduce(FALSE_BINDING, BindingProfiler::or, BindingProfiler::or);
+        } else {
+            disjunction = observableValues.reduce(FALSE_BINDING, BooleanBinding::or, BooleanBinding::or);
+        }
+        return disjunction;
     }
 
     /**
@@ -73,8 +87,15 @@ public final class BindingUtility {
      *
      * @param observableValues The stream which elements to concatenate.
      * @return The resulting {@link BooleanBinding}.
+     * @see BindingProfiler
      */
     public static BooleanBinding reduceAnd(Stream<? extends ObservableBooleanValue> observableValues) {
-        return observableValues.reduce(TRUE_BINDING, BooleanBinding::and, BooleanBinding::and);
+        BooleanBinding conjunction;
+        if (BindingProfiler.isEnabled()) {
+            conjunction = observableValues.reduce(TRUE_BINDING, BindingProfiler::and, BindingProfiler::and);
+        } else {
+            conjunction = observableValues.reduce(TRUE_BINDING, BooleanBinding::and, BooleanBinding::and);
+        }
+        return conjunction;
     }
 }
@@ -1,6 +1,21 @@
 package bayern.steinbrecher.javaUtility;
 
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.BufferOverflowException;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Objects;
+
 /**
+ * Contains methods for comparing and clamping values. The primitive variants {@code clampInt}, {@code clampLong} and
+ * {@code clampDouble} as well as the bulk variants {@code clampAll} require {@code min <= max}. Bulk variants check
+ * this and throw an {@link IllegalArgumentException} otherwise. Their loops consist of branch-free
+ * {@link Math#min(int, int)} and {@link Math#max(int, int)} calls over consecutive elements which the JIT compiler
+ * turns into SIMD instructions. NOTE: The primitive variants are not overloads of
+ * {@link #clamp(Comparable, Comparable, Comparable)} since these would make calls passing boxed values ambiguous.
+ *
  * @author Stefan Huber
  * @since 0.17
  */
@@ -20,4 +35,305 @@ public final class CompareUtility {
         }
         return clamped;
     }
+
+    /**
+     * @since 0.19
+     */
+    public static int clampInt(int value, int min, int max) {
+        return Math.min(Math.max(value, min), max);
+    }
+
+    /**
+     * @since 0.19
+     */
+    public static long clampLong(long value, long min, long max) {
+        return Math.min(Math.max(value, min), max);
+    }
+
+    /**
+     * @return The clamped value or {@link Double#NaN} if {@code value} is {@link Double#NaN}.
+     * @since 0.19
+     */
+    public static double clampDouble(double value, double min, double max) {
+        return Math.min(Math.max(value, min), max);
+    }
+
+    /**
+     * Clamps all values in place.
+     *
+     * @since 0.19
+     */
+    public static void clampAll(int @NotNull [] values, int min, int max) {
+        clampAll(values, 0, values, 0, values.length, min, max);
+    }
+
+    /**
+     * Clamps all values in place.
+     *
+     * @since 0.19
+     */
+    public static void clampAll(long @NotNull [] values, long min, long max) {
+        clampAll(values, 0, values, 0, values.length, min, max);
+    }
+
+    /**
+     * Clamps all values in place.
+     *
+     * @since 0.19
+     */
+    public static void clampAll(double @NotNull [] values, double min, double max) {
+        clampAll(values, 0, values, 0, values.length, min, max);
+    }
+
+    /**
+     * Writes the clamped values of {@code source} to {@code destination}.
+     *
+     * @since 0.19
+     */
+    public static void clampAll(int @NotNull [] source, int @NotNull [] destination, int min, int max) {
+        checkSameLength(source.length, destination.length);
+        clampAll(source, 0, destination, 0, source.length, min, max);
+    }
+
+    /**
+     * Writes the clamped values of {@code source} to {@code destination}.
+     *
+     * @since 0.19
+     */
+    public static void clampAll(long @NotNull [] source, long @NotNull [] destination, long min, long max) {
+        checkSameLength(source.length, destination.length);
+        clampAll(source, 0, destination, 0, source.length, min, max);
+    }
+
+    /**
+     * Writes the clamped values of {@code source} to {@code destination}.
+     *
+     * @since 0.19
+     */
+    public static void clampAll(double @NotNull [] source, double @NotNull [] destination, double min, double max) {
+        checkSameLength(source.length, destination.length);
+        clampAll(source, 0, destination, 0, source.length, min, max);
+    }
+
+    /**
+     * Writes the clamped values of {@code source} starting at {@code sourcePos} to {@code destination} starting at
+     * {@code destinationPos}. Like {@link System#arraycopy(Object, int, Object, int, int)} {@code source} and
+     * {@code destination} may be the same array even if the ranges overlap.
+     *
+     * @since 0.19
+     */
+    public static void clampAll(int @NotNull [] source, int sourcePos, int @NotNull [] destination, int destinationPos,
+                                int length, int min, int max) {
+        checkBounds(min <= max, source.length, sourcePos, destination.length, destinationPos, length);
+        if (source == destination && destinationPos > sourcePos) {
+            // NOTE 2026-10-19: Copy backwards like System.arraycopy so that overlapping values are read before written
+            for (int i = length - 1; i >= 0; i--) {
+                destination[destinationPos + i] = Math.min(Math.max(source[sourcePos + i], min), max);
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                destination[destinationPos + i] = Math.min(Math.max(source[sourcePos + i], min), max);
+            }
+        }
+    }
+
+    /**
+     * Writes the clamped values of {@code source} starting at {@code sourcePos} to {@code destination} starting at
+     * {@code destinationPos}. Like {@link System#arraycopy(Object, int, Object, int, int)} {@code source} and
+     * {@code destination} may be the same array even if the ranges overlap.
+     *
+     * @since 0.19
+     */
+    public static void clampAll(long @NotNull [] source, int sourcePos, long @NotNull [] destination,
+                                int destinationPos, int length, long min, long max) {
+        checkBounds(min <= max, source.length, sourcePos, destination.length, destinationPos, length);
+        if (source == destination && destinationPos > sourcePos) {
+            // NOTE 2026-10-19: Copy backwards like System.arraycopy so that overlapping values are read before written
+            for (int i = length - 1; i >= 0; i--) {
+                destination[destinationPos + i] = Math.min(Math.max(source[sourcePos + i], min), max);
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                destination[destinationPos + i] = Math.min(Math.max(source[sourcePos + i], min), max);
+            }
+        }
+    }
+
+    /**
+     * Writes the clamped values of {@code source} starting at {@code sourcePos} to {@code destination} starting at
+     * {@code destinationPos}. Like {@link System#arraycopy(Object, int, Object, int, int)} {@code source} and
+     * {@code destination} may be the same array even if the ranges overlap. {@link Double#NaN} values stay
+     * {@link Double#NaN}.
+     *
+     * @since 0.19
+     */
+    public static void clampAll(double @NotNull [] source, int sourcePos, double @NotNull [] destination,
+                                int destinationPos, int length, double min, double max) {
+        checkBounds(min <= max, source.length, sourcePos, destination.length, destinationPos, length);
+        if (source == destination && destinationPos > sourcePos) {
+            // NOTE 2026-10-19: Copy backwards like System.arraycopy so that overlapping values are read before written
+            for (int i = length - 1; i >= 0; i--) {
+                destination[destinationPos + i] = Math.min(Math.max(source[sourcePos + i], min), max);
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                destination[destinationPos + i] = Math.min(Math.max(source[sourcePos + i], min), max);
+            }
+        }
+    }
+
+    /**
+     * Clamps the remaining values of the given buffer in place without changing its position.
+     *
+     * @since 0.19
+     */
+    public static void clampAll(@NotNull IntBuffer buffer, int min, int max) {
+        int position = buffer.position();
+        int length = buffer.remaining();
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset() + position;
+            clampAll(buffer.array(), offset, buffer.array(), offset, length, min, max);
+        } else {
+            checkRange(min <= max);
+            for (int i = position; i < position + length; i++) {
+                buffer.put(i, Math.min(Math.max(buffer.get(i), min), max));
+            }
+        }
+    }
+
+    /**
+     * Clamps the remaining values of the given buffer in place without changing its position.
+     *
+     * @since 0.19
+     */
+    public static void clampAll(@NotNull LongBuffer buffer, long min, long max) {
+        int position = buffer.position();
+        int length = buffer.remaining();
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset() + position;
+            clampAll(buffer.array(), offset, buffer.array(), offset, length, min, max);
+        } else {
+            checkRange(min <= max);
+            for (int i = position; i < position + length; i++) {
+                buffer.put(i, Math.min(Math.max(buffer.get(i), min), max));
+            }
+        }
+    }
+
+    /**
+     * Clamps the remaining values of the given buffer in place without changing its position.
+     *
+     * @since 0.19
+     */
+    public static void clampAll(@NotNull DoubleBuffer buffer, double min, double max) {
+        int position = buffer.position();
+        int length = buffer.remaining();
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset() + position;
+            clampAll(buffer.array(), offset, buffer.array(), offset, length, min, max);
+        } else {
+            checkRange(min <= max);
+            for (int i = position; i < position + length; i++) {
+                buffer.put(i, Math.min(Math.max(buffer.get(i), min), max));
+            }
+        }
+    }
+
+    /**
+     * Writes the clamped remaining values of {@code source} to {@code destination}. Like
+     * {@link IntBuffer#put(IntBuffer)} the positions of both buffers are advanced by the number of remaining values of
+     * {@code source}.
+     *
+     * @throws BufferOverflowException Thrown if {@code destination} has not enough space remaining.
+     * @since 0.19
+     */
+    public static void clampAll(@NotNull IntBuffer source, @NotNull IntBuffer destination, int min, int max) {
+        int length = source.remaining();
+        checkRemaining(length, destination.remaining());
+        if (source.hasArray() && destination.hasArray()) {
+            clampAll(source.array(), source.arrayOffset() + source.position(),
+                    destination.array(), destination.arrayOffset() + destination.position(), length, min, max);
+            source.position(source.position() + length);
+            destination.position(destination.position() + length);
+        } else {
+            checkRange(min <= max);
+            for (int i = 0; i < length; i++) {
+                destination.put(Math.min(Math.max(source.get(), min), max));
+            }
+        }
+    }
+
+    /**
+     * Writes the clamped remaining values of {@code source} to {@code destination}. Like
+     * {@link LongBuffer#put(LongBuffer)} the positions of both buffers are advanced by the number of remaining values
+     * of {@code source}.
+     *
+     * @throws BufferOverflowException Thrown if {@code destination} has not enough space remaining.
+     * @since 0.19
+     */
+    public static void clampAll(@NotNull LongBuffer source, @NotNull LongBuffer destination, long min, long max) {
+        int length = source.remaining();
+        checkRemaining(length, destination.remaining());
+        if (source.hasArray() && destination.hasArray()) {
+            clampAll(source.array(), source.arrayOffset() + source.position(),
+                    destination.array(), destination.arrayOffset() + destination.position(), length, min, max);
+            source.position(source.position() + length);
+            destination.position(destination.position() + length);
+        } else {
+            checkRange(min <= max);
+            for (int i = 0; i < length; i++) {
+                destination.put(Math.min(Math.max(source.get(), min), max));
+            }
+        }
+    }
+
+    /**
+     * Writes the clamped remaining values of {@code source} to {@code destination}. Like
+     * {@link DoubleBuffer#put(DoubleBuffer)} the positions of both buffers are advanced by the number of remaining
+     * values of {@code source}.
+     *
+     * @throws BufferOverflowException Thrown if {@code destination} has not enough space remaining.
+     * @since 0.19
+     */
+    public static void clampAll(@NotNull DoubleBuffer source, @NotNull DoubleBuffer destination, double min,
+                                double max) {
+        int length = source.remaining();
+        checkRemaining(length, destination.remaining());
+        if (source.hasArray() && destination.hasArray()) {
+            clampAll(source.array(), source.arrayOffset() + source.position(),
+                    destination.array(), destination.arrayOffset() + destination.position(), length, min, max);
+            source.position(source.position() + length);
+            destination.position(destination.position() + length);
+        } else {
+            checkRange(min <= max);
+            for (int i = 0; i < length; i++) {
+                destination.put(Math.min(Math.max(source.get(), min), max));
+            }
+        }
+    }
+
+    private static void checkRange(boolean minNotGreaterThanMax) {
+        if (!minNotGreaterThanMax) {
+            throw new IllegalArgumentException("The minimum must not be greater than the maximum");
+        }
+    }
+
+    private static void checkSameLength(int sourceLength, int destinationLength) {
+        if (sourceLength != destinationLength) {
+            throw new IllegalArgumentException("The source and the destination differ in length");
+        }
+    }
+
+    private static void checkRemaining(int sourceRemaining, int destinationRemaining) {
+        if (sourceRemaining > destinationRemaining) {
+            throw new BufferOverflowException();
+        }
+    }
+
+    private static void checkBounds(boolean minNotGreaterThanMax, int sourceLength, int sourcePos,
+                                    int destinationLength, int destinationPos, int length) {
+        checkRange(minNotGreaterThanMax);
+        Objects.checkFromIndexSize(sourcePos, length, sourceLength);
+        Objects.checkFromIndexSize(destinationPos, length, destinationLength);
+    }
 }
@@ -0,0 +1,296 @@
+package bayern.steinbrecher.javaUtility;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs batches of {@link ExceptionalCallable}s concurrently while preserving the type of the exceptions they throw.
+ * In contrast to {@link ExecutorService#invokeAll(Collection)} failures are not wrapped in
+ * {@link java.util.concurrent.ExecutionException}s. Instead, the first failure is rethrown with the failures of other
+ * callables added as suppressed exceptions. Failures of a type the callables are not supposed to throw are wrapped in
+ * an {@link UnhandledException} like {@link ExceptionalCallable#call(Class)} does.
+ * <p>
+ * A batch is executed by at most {@code maxParallelism} tasks submitted to the given {@link Executor} which take the
+ * callables one after another. Hence, a batch never occupies more threads than that regardless of its size. When the
+ * batch is decided, i.e. a callable failed in {@code invokeAll} or succeeded in {@code invokeAny}, its time ran out or
+ * the calling thread was interrupted, the remaining callables are not started and the threads running the others are
+ * interrupted. The methods without an {@link Executor} parameter use a shared pool of daemon threads. On Java 21 or
+ * later {@code Executors.newVirtualThreadPerTaskExecutor()} may be passed instead.
+ *
+ * @author Stefan Huber
+ * @since 0.19
+ */
+public final class ConcurrencyUtility {
+    /**
+     * The pool of daemon threads shared by all utility classes of this library for running tasks in the background.
+     * NOTE: Virtual threads are only a preview feature in Java 19 which is targeted by this library. Therefore, the
+     * tasks are run on a pool which reuses its threads instead.
+     */
+    static final ExecutorService BACKGROUND_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactory() {
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(@NotNull Runnable task) {
+            Thread thread = new Thread(task, "JavaUtility-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private ConcurrencyUtility() {
+        throw new UnsupportedOperationException("The construction of instances is prohibited");
+    }
+
+    /**
+     * Calls {@link #invokeAll(Collection, Class, Executor, int, Duration)} using a shared pool of daemon threads, all
+     * callables in parallel and no timeout. Since callables typically block on I/O limiting their parallelism to the
+     * number of processors would let slow callables delay the others.
+     */
+    @NotNull
+    public static <V, E extends Exception> List<V> invokeAll(
+            @NotNull Collection<? extends ExceptionalCallable<? extends V, E>> callables,
+            @Nullable Class<E> exceptionTypeDummy) throws E, InterruptedException {
+        try {
+            return invokeAll(callables, exceptionTypeDummy, BACKGROUND_EXECUTOR,
+                    Math.max(1, callables.size()), null);
+        } catch (TimeoutException ex) {
+            throw new AssertionError("A batch without a timeout timed out", ex);
+        }
+    }
+
+    /**
+     * Calls all given callables and waits for all of them to finish. As soon as a callable fails the remaining ones are
+     * cancelled.
+     *
+     * @param exceptionTypeDummy The type of exceptions the callables are supposed to throw or {@code null} if they are
+     *                           not supposed to throw any exception.
+     * @param maxParallelism     The maximum number of callables running at once.
+     * @param timeout            The time to wait for all callables to finish or {@code null} if there is no limit.
+     * @return The results of the callables in the iteration order of {@code callables}.
+     * @throws E                    The first exception thrown by a callable if it is of the expected type.
+     * @throws UnhandledException   Thrown if the first failure of a callable is not of the expected type.
+     * @throws InterruptedException Thrown if the calling thread was interrupted while waiting.
+     * @throws TimeoutException     Thrown if not all callables finished within the given timeout.
+     */
+    @NotNull
+    public static <V, E extends Exception> List<V> invokeAll(
+            @NotNull Collection<? extends ExceptionalCallable<? extends V, E>> callables,
+            @Nullable Class<E> exceptionTypeDummy, @NotNull Executor executor, int maxParallelism,
+            @Nullable Duration timeout) throws E, InterruptedException, TimeoutException {
+        Batch<V, E> batch = new Batch<>(callables, exceptionTypeDummy, false);
+        batch.execute(executor, maxParallelism, timeout);
+        if (!batch.failures.isEmpty()) {
+            batch.throwFailure();
+        }
+        return Arrays.asList(batch.results);
+    }
+
+    /**
+     * Calls {@link #invokeAny(Collection, Class, Executor, int, Duration)} using a shared pool of daemon threads, all
+     * callables in parallel and no timeout. Since callables typically block on I/O limiting their parallelism to the
+     * number of processors would let slow callables delay the others.
+     */
+    public static <V, E extends Exception> V invokeAny(
+            @NotNull Collection<? extends ExceptionalCallable<? extends V, E>> callables,
+            @Nullable Class<E> exceptionTypeDummy) throws E, InterruptedException {
+        try {
+            return invokeAny(callables, exceptionTypeDummy, BACKGROUND_EXECUTOR,
+                    Math.max(1, callables.size()), null);
+        } catch (TimeoutException ex) {
+            throw new AssertionError("A batch without a timeout timed out", ex);
+        }
+    }
+
+    /**
+     * Calls the given callables until one of them succeeds. As soon as a callable succeeds the remaining ones are
+     * cancelled.
+     *
+     * @param exceptionTypeDummy The type of exceptions the callables are supposed to throw or {@code null} if they are
+     *                           not supposed to throw any exception.
+     * @param maxParallelism     The maximum number of callables running at once.
+     * @param timeout            The time to wait for a callable to succeed or {@code null} if there is no limit.
+     * @return The result of the first callable which succeeded.
+     * @throws E                    The first exception thrown by a callable if all callables failed and it is of the
+     *                              expected type.
+     * @throws UnhandledException   Thrown if all callables failed and the first failure is not of the expected type.
+     * @throws InterruptedException Thrown if the calling thread was interrupted while waiting.
+     * @throws TimeoutException     Thrown if no callable succeeded within the given timeout.
+     */
+    public static <V, E extends Exception> V invokeAny(
+            @NotNull Collection<? extends ExceptionalCallable<? extends V, E>> callables,
+            @Nullable Class<E> exceptionTypeDummy, @NotNull Executor executor, int maxParallelism,
+            @Nullable Duration timeout) throws E, InterruptedException, TimeoutException {
+        if (callables.isEmpty()) {
+            throw new IllegalArgumentException("At least one callable is required");
+        }
+        Batch<V, E> batch = new Batch<>(callables, exceptionTypeDummy, true);
+        batch.execute(executor, maxParallelism, timeout);
+        if (batch.firstSuccess < 0) {
+            batch.throwFailure();
+        }
+        return batch.results[batch.firstSuccess];
+    }
+
+    private static final class Batch<V, E extends Exception> {
+        private final List<ExceptionalCallable<? extends V, E>> callables;
+        private final Class<E> exceptionTypeDummy;
+        private final boolean decidedBySuccess;
+        private final V[] results;
+        private final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger nextIndex = new AtomicInteger();
+        /**
+         * Guarded by {@code runningThreads}.
+         */
+        private final List<Thread> runningThreads = new ArrayList<>();
+        private volatile boolean decided = false;
+        private volatile int firstSuccess = -1;
+
+        @SuppressWarnings("unchecked")
+        private Batch(@NotNull Collection<? extends ExceptionalCallable<? extends V, E>> callables,
+                      @Nullable Class<E> exceptionTypeDummy, boolean decidedBySuccess) {
+            this.callables = List.copyOf(callables);
+            this.exceptionTypeDummy = exceptionTypeDummy;
+            this.decidedBySuccess = decidedBySuccess;
+            results = (V[]) new Object[this.callables.size()];
+        }
+
+        private void execute(@NotNull Executor executor, int maxParallelism, @Nullable Duration timeout)
+                throws InterruptedException, TimeoutException {
+            if (maxParallelism < 1) {
+                throw new IllegalArgumentException("At least one callable has to run at once");
+            }
+            int numWorkers = Math.min(maxParallelism, callables.size());
+            CountDownLatch workersFinished = new CountDownLatch(numWorkers);
+            for (int i = 0; i < numWorkers; i++) {
+                try {
+                    executor.execute(() -> {
+                        try {
+                            work();
+                        } finally {
+                            workersFinished.countDown();
+                        }
+                    });
+                } catch (RejectedExecutionException ex) {
+                    decide();
+                    throw ex;
+                }
+            }
+            boolean finished;
+            try {
+                if (timeout == null) {
+                    workersFinished.await();
+                    finished = true;
+                } else {
+                    finished = workersFinished.await(timeout.toNanos(), TimeUnit.NANOSECONDS);
+                }
+            } catch (InterruptedException ex) {
+                decide();
+                throw ex;
+            }
+            if (!finished) {
+                decide();
+                throw new TimeoutException("The callables did not finish within " + timeout);
+            }
+        }
+
+        private void work() {
+            Thread currentThread = Thread.currentThread();
+            int index;
+            while (!decided && (index = nextIndex.getAndIncrement()) < callables.size()) {
+                synchronized (runningThreads) {
+                    if (decided) {
+                        break;
+                    }
+                    runningThreads.add(currentThread);
+                }
+                try {
+                    results[index] = callables.get(index).call(exceptionTypeDummy);
+                    if (decidedBySuccess) {
+                        synchronized (runningThreads) {
+                            if (firstSuccess < 0) {
+                                firstSuccess = index;
+                            }
+                        }
+                        decide();
+                    }
+                } catch (Throwable ex) {
+                    if (!(decided && isCausedByInterruption(ex))) {
+                        failures.add(ex);
+                    }
+                    if (!decidedBySuccess) {
+                        decide();
+                    }
+                } finally {
+                    synchronized (runningThreads) {
+                        runningThreads.remove(currentThread);
+                        /* NOTE 2026-10-18: Clear an interruption of a sibling's failure under the lock which guards
+                         * interrupting so that it does not leak into the next task the thread runs.
+                         */
+                        Thread.interrupted();
+                    }
+                }
+            }
+        }
+
+        /**
+         * Stops starting further callables and interrupts the threads of the callables which are still running.
+         */
+        private void decide() {
+            synchronized (runningThreads) {
+                decided = true;
+                Thread currentThread = Thread.currentThread();
+                for (Thread thread : runningThreads) {
+                    if (thread != currentThread) {
+                        thread.interrupt();
+                    }
+                }
+            }
+        }
+
+        private static boolean isCausedByInterruption(@NotNull Throwable failure) {
+            for (Throwable current = failure; current != null; current = current.getCause()) {
+                if (current instanceof InterruptedException) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Throws the first failure with all others added as suppressed exceptions.
+         */
+        private void throwFailure() throws E {
+            Throwable first = failures.remove();
+            for (Throwable other : failures) {
+                first.addSuppressed(other);
+            }
+            if (exceptionTypeDummy != null && exceptionTypeDummy.isInstance(first)) {
+                throw exceptionTypeDummy.cast(first);
+            }
+            if (first instanceof UnhandledException unhandled) {
+                throw unhandled;
+            }
+            if (first instanceof Error error) {
+                throw error;
+            }
+            throw new UnhandledException("A callable yielded an exception which it is not supposed to throw", first);
+        }
+    }
+}
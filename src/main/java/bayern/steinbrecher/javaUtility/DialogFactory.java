@@ -1,31 +1,50 @@
 package bayern.steinbrecher.javaUtility;
 
 import javafx.application.Platform;
+import javafx.event.EventHandler;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
 import javafx.scene.control.Button;
 import javafx.scene.control.ButtonType;
+import javafx.scene.control.DialogEvent;
 import javafx.scene.control.DialogPane;
 import javafx.scene.control.Label;
 import javafx.scene.control.TextArea;
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeView;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.input.Clipboard;
+import javafx.scene.input.ClipboardContent;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Priority;
 import javafx.stage.Modality;
+import javafx.stage.Screen;
 import javafx.stage.Stage;
 import javafx.stage.StageStyle;
+import javafx.util.Callback;
+import javafx.util.Pair;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.ResourceBundle;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -43,40 +62,125 @@ public final class DialogFactory {
     private static final ResourceBundle RESOURCE_BUNDLE
             = ResourceBundle.getBundle("bayern.steinbrecher.javaUtility.dialog");
     private static final int NUMBER_USED_PARAMETERS = 3;
-    private static final Map<AlertType, ImageView> TYPE_ICONS = Map.of(
-            AlertType.CONFIRMATION, loadIcon("checked.png"),
-            AlertType.INFORMATION, loadIcon("info.png"),
-            AlertType.WARNING, loadIcon("warning.png"),
-            AlertType.ERROR, loadIcon("error.png")
+    private static final Map<AlertType, String> TYPE_ICON_PATHS = Map.of(
+            AlertType.CONFIRMATION, "checked.png",
+            AlertType.INFORMATION, "info.png",
+            AlertType.WARNING, "warning.png",
+            AlertType.ERROR, "error.png"
     );
+    /**
+     * Maps a path and a pixel size to the icon loaded from the path scaled to the pixel size. The same {@link Image}
+     * is shared by all {@link ImageView}s displaying it.
+     */
+    private static final Map<String, Image> TYPE_ICON_CACHE = new ConcurrentHashMap<>();
+    /**
+     * Key of the {@link DialogPane} property marking an {@link Alert} as initialized by a {@link DialogFactory}. Its
+     * value is the factory.
+     */
+    private static final String INITIALIZED_PROPERTY_KEY = DialogFactory.class.getName() + ".initialized";
+    /**
+     * Key of the {@link DialogPane} property holding the {@link AlertDefaults} of a poolable {@link Alert}.
+     */
+    private static final String POOL_DEFAULTS_PROPERTY_KEY = DialogFactory.class.getName() + ".poolDefaults";
+    private static final Duration DEFAULT_AGGREGATION_WINDOW = Duration.ofSeconds(10);
+    private static final int DEFAULT_MAX_AGGREGATED_ALERTS_PER_WINDOW = 3;
+    /**
+     * The number of causes of a {@link Throwable} considered for identifying duplicate alerts.
+     */
+    private static final int MAX_SIGNATURE_CAUSE_DEPTH = 8;
     private final Stage referenceStage;
+    private final int alertPoolCapacity;
+    /**
+     * Only accessed on the FX application thread.
+     */
+    private final Map<AlertType, Deque<Alert>> alertPool = new EnumMap<>(AlertType.class);
+    private final Map<String, AggregatedAlert> aggregatedAlerts = new ConcurrentHashMap<>();
+    /**
+     * Points in time (see {@link System#nanoTime()}) at which aggregated alerts were shown within the current
+     * aggregation window. Guarded by itself.
+     */
+    private final Deque<Long> aggregatedAlertShowTimes = new ArrayDeque<>();
+    private final AtomicLong suppressedAlertCount = new AtomicLong();
+    private volatile long aggregationWindowNanos = DEFAULT_AGGREGATION_WINDOW.toNanos();
+    private volatile int maxAggregatedAlertsPerWindow = DEFAULT_MAX_AGGREGATED_ALERTS_PER_WINDOW;
 
     public DialogFactory() {
         this(new StageFactory(Modality.APPLICATION_MODAL, StageStyle.UTILITY, null, null, null));
     }
 
     public DialogFactory(@NotNull StageFactory stageFactory) {
+        this(stageFactory, 0);
+    }
+
+    /**
+     * @param alertPoolCapacity The maximum number of hidden {@link Alert}s per {@link AlertType} this factory keeps for
+     *                          reuse. If {@code 0} alerts are not pooled at all.
+     * @see #recycle(Alert)
+     * @since 0.19
+     */
+    public DialogFactory(@NotNull StageFactory stageFactory, int alertPoolCapacity) {
+        if (alertPoolCapacity < 0) {
+            throw new IllegalArgumentException("The capacity of the alert pool must not be negative");
+        }
         this.referenceStage = stageFactory.create();
+        this.alertPoolCapacity = alertPoolCapacity;
+    }
+
+    /**
+     * Starts loading the icons of all {@link AlertType}s in the background if they are not loaded yet. Calling this
+     * method is optional since icons are loaded lazily anyway. It requires the JavaFX toolkit to be initialized.
+     *
+     * @since 0.19
+     */
+    public static void preloadTypeIcons() {
+        double outputScale = Screen.getPrimary().getOutputScaleX();
+        TYPE_ICON_PATHS.values()
+                .forEach(path -> loadTypeIcon(path, outputScale));
     }
 
     @NotNull
-    private static ImageView loadIcon(@NotNull String path) {
-        Image image = new Image(DialogFactory.class.getResource(path).getPath(), TYPE_ICON_SIZE,
-                TYPE_ICON_SIZE, true, true);
-        ImageView imageView = new ImageView(image);
-        imageView.setSmooth(true);
+    private static Image loadTypeIcon(@NotNull String path, double outputScale) {
+        /* NOTE 2026-10-18: The icon is decoded at the pixel size of the output device and displayed at its logical size
+         * to ensure crisp icons on high DPI screens.
+         */
+        int pixelSize = (int) Math.ceil(TYPE_ICON_SIZE * outputScale);
+        return TYPE_ICON_CACHE.computeIfAbsent(path + "@" + pixelSize, key -> new Image(
+                DialogFactory.class.getResource(path).toExternalForm(), pixelSize, pixelSize, true, true, true));
+    }
+
+    /**
+     * @return A new {@link ImageView} showing the shared icon of the given type or {@code null} if there is no icon for
+     * the given type.
+     */
+    @Nullable
+    private static ImageView createTypeIconView(@NotNull AlertType alertType) {
+        String path = TYPE_ICON_PATHS.get(alertType);
+        ImageView imageView;
+        if (path == null) {
+            imageView = null;
+        } else {
+            imageView = new ImageView(loadTypeIcon(path, Screen.getPrimary().getOutputScaleX()));
+            imageView.setFitWidth(TYPE_ICON_SIZE);
+            imageView.setFitHeight(TYPE_ICON_SIZE);
+            imageView.setPreserveRatio(true);
+            imageView.setSmooth(true);
+        }
         return imageView;
     }
 
     /**
      * Returns a new {@link Alert}. This method may be called on any {@link Thread}. If it is not called on the FX
-     * application thread it passes the creation to the FX application thread and waits for it.
+     * application thread it passes the creation to the FX application thread and waits for it. The creation, the
+     * initialization and the configuration of the alert all happen within a single pass to the FX application thread.
      *
+     * @param alertCreation Creates a new {@link Alert} or returns a pooled one.
+     * @param configuration Configures the created alert on the FX application thread.
      * @return The newly created {@link Alert}.
      */
     @NotNull
-    private Alert createAlert(@NotNull Callable<Alert> alertCreation) throws DialogCreationException {
-        Alert baseAlert = PlatformUtility.runLaterBlocking(
+    private Alert createAlert(@NotNull Callable<Alert> alertCreation, @NotNull Consumer<Alert> configuration)
+            throws DialogCreationException {
+        return PlatformUtility.runLaterBlocking(
                 () -> {
                     Alert alert;
                     try {
@@ -84,28 +188,114 @@ public final class DialogFactory {
                     } catch (Exception ex) {
                         throw new DialogCreationException(ex);
                     }
-                    alert.setGraphic(TYPE_ICONS.getOrDefault(alert.getAlertType(), null));
+                    if (!alert.getDialogPane().getProperties().containsKey(INITIALIZED_PROPERTY_KEY)) {
+                        alert.setGraphic(createTypeIconView(alert.getAlertType()));
+                        alert.initOwner(referenceStage.getOwner());
+                        alert.initModality(referenceStage.getModality());
+                        alert.initStyle(referenceStage.getStyle());
+                        if (referenceStage.getScene() != null) {
+                            alert.getDialogPane()
+                                    .getStylesheets()
+                                    .addAll(referenceStage.getScene().getStylesheets());
+                        }
+                        alert.getDialogPane()
+                                .getProperties()
+                                .put(INITIALIZED_PROPERTY_KEY, this);
+                    }
+                    configuration.accept(alert);
                     return alert;
                 },
                 DialogCreationException.class);
+    }
 
-        baseAlert.initOwner(referenceStage.getOwner());
-        baseAlert.initModality(referenceStage.getModality());
-        baseAlert.initStyle(referenceStage.getStyle());
-        if (referenceStage.getScene() != null) {
-            baseAlert.getDialogPane()
-                    .getStylesheets()
-                    .addAll(referenceStage.getScene().getStylesheets());
+    /**
+     * Returns a pooled {@link Alert} of the given type if available. Otherwise, it creates a new one which can be
+     * returned to the pool using {@link #recycle(Alert)}. This method has to be called on the FX application thread.
+     */
+    @NotNull
+    private Alert obtainPoolableAlert(@NotNull AlertType alertType) {
+        Deque<Alert> pooledAlerts = alertPool.get(alertType);
+        Alert alert = (pooledAlerts == null) ? null : pooledAlerts.pollFirst();
+        if (alert == null) {
+            alert = new Alert(alertType);
+            alert.getDialogPane()
+                    .getProperties()
+                    .put(POOL_DEFAULTS_PROPERTY_KEY, new AlertDefaults(alert));
         }
+        return alert;
+    }
 
-        return baseAlert;
+    /**
+     * Returns the given {@link Alert} to the pool of this factory after resetting it to its initial state. Only hidden
+     * alerts which were created by this factory using
+     * {@link #createConfirmationAlert(AlertType, String...)} (or any of its shortcuts) are pooled. Other alerts as well
+     * as alerts exceeding the capacity of the pool are ignored. The caller must not use the alert afterwards. This
+     * method may be called on any {@link Thread}.
+     * <p>
+     * Recycling restores the title, the header text, the content text, the button types along with the default and
+     * cancel flags of their buttons, the result and its converter, the expandable content, the preferred size of the
+     * dialog pane, whether the alert is resizable and the {@code onShowing}, {@code onShown}, {@code onHiding},
+     * {@code onHidden} and {@code onCloseRequest} handlers. It does not reset anything else, e.g. listeners or
+     * bindings registered on the alert, its owner, modality and style which can not be changed after showing it
+     * anyway, the width, height and position of its window and any other properties of its dialog pane.
+     *
+     * @see #DialogFactory(StageFactory, int)
+     * @since 0.19
+     */
+    public void recycle(@NotNull Alert alert) {
+        if (alertPoolCapacity > 0) {
+            PlatformUtility.runLaterBatched(() -> {
+                Map<Object, Object> properties = alert.getDialogPane().getProperties();
+                boolean createdByThisFactory = properties.get(INITIALIZED_PROPERTY_KEY) == this;
+                if (createdByThisFactory && properties.get(POOL_DEFAULTS_PROPERTY_KEY) instanceof AlertDefaults defaults
+                        && !alert.isShowing()) {
+                    Deque<Alert> pooledAlerts
+                            = alertPool.computeIfAbsent(alert.getAlertType(), type -> new ArrayDeque<>());
+                    if (pooledAlerts.size() < alertPoolCapacity) {
+                        defaults.restore(alert);
+                        pooledAlerts.addLast(alert);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Prepares an {@link Alert} for each of the given types including applying its stylesheets and creating the skins
+     * of its controls. This moves the costs of loading CSS and skins from showing the first alert to the call of this
+     * method. If this factory pools alerts the prepared alerts are added to the pool. This method may be called on any
+     * {@link Thread} and does not block.
+     *
+     * @return A {@link CompletableFuture} which completes as soon as all alerts are prepared.
+     * @since 0.19
+     */
+    @NotNull
+    public CompletableFuture<Void> prewarm(@NotNull AlertType... alertTypes) {
+        CompletableFuture<Void> prewarmed = new CompletableFuture<>();
+        PlatformUtility.runLaterBatched(() -> {
+            try {
+                for (AlertType alertType : alertTypes) {
+                    Alert alert = createAlert(() -> obtainPoolableAlert(alertType), a -> {
+                        DialogPane dialogPane = a.getDialogPane();
+                        dialogPane.applyCss();
+                        dialogPane.layout();
+                    });
+                    recycle(alert);
+                }
+                prewarmed.complete(null);
+            } catch (DialogCreationException | RuntimeException ex) {
+                prewarmed.completeExceptionally(ex);
+            }
+        });
+        return prewarmed;
     }
 
     @NotNull
     public Alert createInteractiveAlert(
             @NotNull Alert.AlertType type, @Nullable String message, @NotNull ButtonType... buttons)
             throws DialogCreationException {
-        return createAlert(() -> new Alert(type, message, buttons));
+        return createAlert(() -> new Alert(type, message, buttons), alert -> {
+        });
     }
 
     /**
@@ -131,27 +321,28 @@ public final class DialogFactory {
                     NUMBER_USED_PARAMETERS);
         }
 
-        Alert alert = createAlert(() -> new Alert(alertType));
         int parameterCount = Math.min(args.length, NUMBER_USED_PARAMETERS);
-        //CHECKSTYLE.OFF: MagicNumber - The JavaDoc explicitly describes these three possible parameters
-        switch (parameterCount) {
-            case 3:
-                alert.setHeaderText(args[2]);
-                //fall-through
-            case 2:
-                alert.setTitle(args[1]);
-                //fall-through
-            case 1:
-                alert.setContentText(args[0]);
-                //fall-through
-            case 0:
-                //No op
-                break;
-            default:
-                throw new IllegalArgumentException("At most three parameters can be passed. (content, title, header)");
-        }
-        //CHECKSTYLE.ON: MagicNumber
-        return alert;
+        return createAlert(() -> obtainPoolableAlert(alertType), alert -> {
+            //CHECKSTYLE.OFF: MagicNumber - The JavaDoc explicitly describes these three possible parameters
+            switch (parameterCount) {
+                case 3:
+                    alert.setHeaderText(args[2]);
+                    //fall-through
+                case 2:
+                    alert.setTitle(args[1]);
+                    //fall-through
+                case 1:
+                    alert.setContentText(args[0]);
+                    //fall-through
+                case 0:
+                    //No op
+                    break;
+                default:
+                    throw new IllegalArgumentException(
+                            "At most three parameters can be passed. (content, title, header)");
+            }
+            //CHECKSTYLE.ON: MagicNumber
+        });
     }
 
     @NotNull
@@ -190,38 +381,209 @@ public final class DialogFactory {
         return alert;
     }
 
+    /**
+     * Creates an error {@link Alert} whose expandable content shows the stack trace of the given {@link Throwable}
+     * including its causes and suppressed exceptions. The stack trace is shown in a tree whose entries are created
+     * when they are expanded. Repeated frames are collapsed. Hence, even huge stack traces do not delay showing the
+     * alert.
+     *
+     * @param args See {@link #createConfirmationAlert(AlertType, String...)}.
+     */
     @NotNull
     public Alert createStacktraceAlert(@NotNull Throwable cause, @NotNull String... args)
             throws DialogCreationException {
-        Alert alert = createConfirmationAlert(Alert.AlertType.ERROR, args);
+        return createStacktraceAlert(AlertType.ERROR, cause, args);
+    }
+
+    /**
+     * Same as {@link #createStacktraceAlert(Throwable, String...)} but creates an {@link Alert} of the given type.
+     */
+    @NotNull
+    Alert createStacktraceAlert(@NotNull AlertType alertType, @NotNull Throwable cause, @NotNull String... args)
+            throws DialogCreationException {
+        Alert alert = createConfirmationAlert(alertType, args);
 
         Label stacktraceLabel = new Label(RESOURCE_BUNDLE.getString("stacktraceLabel"));
 
-        StringWriter stacktrace = new StringWriter();
-        PrintWriter stacktracePw = new PrintWriter(stacktrace);
-        cause.printStackTrace(stacktracePw);
-        TextArea stacktraceArea = new TextArea(stacktrace.toString());
-        stacktraceArea.setEditable(false);
+        TreeItem<String> stacktraceRoot = StackTraceTreeItem.of(cause);
+        stacktraceRoot.setExpanded(true);
+        TreeView<String> stacktraceView = new TreeView<>(stacktraceRoot);
+
+        Button copyButton = new Button(RESOURCE_BUNDLE.getString("copyStacktrace"));
+        copyButton.setOnAction(event -> {
+            StringWriter stacktrace = new StringWriter();
+            cause.printStackTrace(new PrintWriter(stacktrace));
+            ClipboardContent content = new ClipboardContent();
+            content.putString(stacktrace.toString());
+            Clipboard.getSystemClipboard()
+                    .setContent(content);
+        });
 
         GridPane grid = new GridPane();
-        grid.addColumn(0, stacktraceLabel, stacktraceArea);
-        GridPane.setHgrow(stacktraceArea, Priority.ALWAYS);
-        GridPane.setVgrow(stacktraceArea, Priority.ALWAYS);
+        grid.addColumn(0, stacktraceLabel, stacktraceView, copyButton);
+        GridPane.setHgrow(stacktraceView, Priority.ALWAYS);
+        GridPane.setVgrow(stacktraceView, Priority.ALWAYS);
 
         alert.getDialogPane().setExpandableContent(grid);
 
         return alert;
     }
 
+    /**
+     * Configures how {@link #showAggregated(AlertType, Throwable, String...)} aggregates alerts.
+     *
+     * @param window             Alerts which are equal to an alert shown less than {@code window} ago are merged into
+     *                           the shown alert. Additionally, the rate limit applies to this window.
+     * @param maxAlertsPerWindow The maximum number of distinct alerts shown within {@code window}. Further alerts are
+     *                           suppressed and only logged.
+     * @since 0.19
+     */
+    public void setAlertAggregation(@NotNull Duration window, int maxAlertsPerWindow) {
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("The aggregation window has to be positive");
+        }
+        if (maxAlertsPerWindow < 1) {
+            throw new IllegalArgumentException("At least one alert per window has to be allowed");
+        }
+        aggregationWindowNanos = window.toNanos();
+        maxAggregatedAlertsPerWindow = maxAlertsPerWindow;
+    }
+
+    /**
+     * @return The number of alerts {@link #showAggregated(AlertType, Throwable, String...)} did not show due to its
+     * rate limit.
+     * @since 0.19
+     */
+    public long getSuppressedAlertCount() {
+        return suppressedAlertCount.get();
+    }
+
+    /**
+     * Shows an alert without waiting for it to be closed while protecting the user and the FX application thread from
+     * bursts of alerts. Alerts with the same type, the same arguments and a cause with the same signature (the classes
+     * and origins of the {@link Throwable} and its causes) are considered equal. An alert equal to one shown within
+     * the aggregation window is not shown again. Instead, the title of the shown alert displays the number of
+     * occurrences. Additionally, at most a limited number of distinct alerts are shown within the aggregation window.
+     * Further distinct alerts are only logged. Hence, the costs of a burst of errors stay bounded. This method may be
+     * called on any {@link Thread}.
+     *
+     * @param cause If not {@code null} a stack trace alert of the given type is shown (see
+     *              {@link #createStacktraceAlert(Throwable, String...)}).
+     * @param args  See {@link #createConfirmationAlert(AlertType, String...)}.
+     * @see #setAlertAggregation(Duration, int)
+     * @since 0.19
+     */
+    public void showAggregated(@NotNull AlertType alertType, @Nullable Throwable cause, @NotNull String... args)
+            throws DialogCreationException {
+        long now = System.nanoTime();
+        long window = aggregationWindowNanos;
+        aggregatedAlerts.values()
+                .removeIf(aggregated -> now - aggregated.firstOccurrence >= window);
+
+        String key = alertType + "\0" + String.join("\0", args) + "\0" + createCauseSignature(cause);
+        AggregatedAlert newAggregation = new AggregatedAlert(now);
+        AggregatedAlert aggregated = aggregatedAlerts.merge(key, newAggregation, (existing, added) -> {
+            existing.occurrences.incrementAndGet();
+            return existing;
+        });
+        if (aggregated == newAggregation) {
+            if (acquireAggregatedAlertSlot(now, window)) {
+                Alert alert;
+                try {
+                    alert = (cause == null)
+                            ? createConfirmationAlert(alertType, args)
+                            : createStacktraceAlert(alertType, cause, args);
+                } catch (DialogCreationException | RuntimeException ex) {
+                    aggregatedAlerts.remove(key, aggregated);
+                    aggregated.alert.complete(null);
+                    throw ex;
+                }
+                aggregated.alert.complete(new Pair<>(alert, alert.getTitle()));
+                UtilityMetrics.increment(UtilityMetrics.Counter.DIALOGS_SHOWN);
+                PlatformUtility.runLaterBatched(alert::show);
+            } else {
+                /* NOTE 2026-10-20: Remove the entry so that duplicates are subject to the rate limit themselves
+                 * instead of being merged into an alert which is never shown.
+                 */
+                aggregatedAlerts.remove(key, aggregated);
+                aggregated.alert.complete(null);
+                logSuppressedAlert(cause, args);
+            }
+        } else {
+            aggregated.alert.thenAccept(alertAndTitle -> {
+                if (alertAndTitle == null) {
+                    // NOTE 2026-10-20: The duplicate joined the entry before it was removed
+                    logSuppressedAlert(cause, args);
+                } else {
+                    PlatformUtility.runLaterConflated(aggregated.titleUpdater, alertAndTitle);
+                }
+            });
+        }
+    }
+
+    private void logSuppressedAlert(@Nullable Throwable cause, @NotNull String... args) {
+        suppressedAlertCount.incrementAndGet();
+        UtilityMetrics.increment(UtilityMetrics.Counter.DIALOGS_SUPPRESSED);
+        LOGGER.log(Level.WARNING, "Suppressed alert due to too many alerts in a short time: "
+                + String.join(" ", args), cause);
+    }
+
+    private boolean acquireAggregatedAlertSlot(long now, long window) {
+        synchronized (aggregatedAlertShowTimes) {
+            while (!aggregatedAlertShowTimes.isEmpty() && now - aggregatedAlertShowTimes.peekFirst() >= window) {
+                aggregatedAlertShowTimes.removeFirst();
+            }
+            boolean slotAvailable = aggregatedAlertShowTimes.size() < maxAggregatedAlertsPerWindow;
+            if (slotAvailable) {
+                aggregatedAlertShowTimes.addLast(now);
+            }
+            return slotAvailable;
+        }
+    }
+
+    @NotNull
+    private static String createCauseSignature(@Nullable Throwable cause) {
+        StringBuilder signature = new StringBuilder();
+        Throwable current = cause;
+        for (int depth = 0; current != null && depth < MAX_SIGNATURE_CAUSE_DEPTH; depth++) {
+            signature.append(current.getClass().getName());
+            StackTraceElement[] trace = current.getStackTrace();
+            if (trace.length > 0) {
+                signature.append('@')
+                        .append(trace[0]);
+            }
+            signature.append(';');
+            current = current.getCause();
+        }
+        return signature.toString();
+    }
+
+    /**
+     * Shows the given {@link Alert} on the JavaFX application thread and waits for it to be closed. This method may be
+     * called on any {@link Thread}.
+     *
+     * @see FxLatencyMonitor
+     */
     @NotNull
     public static Optional<ButtonType> showAndWait(@NotNull Alert alert) {
         Optional<ButtonType> result;
+        FxCallSiteStatistics statistics = FxLatencyMonitor.lookupCallSite();
+        UtilityMetrics.increment(UtilityMetrics.Counter.DIALOGS_SHOWN);
         if (Platform.isFxApplicationThread()) {
+            long executionStart = System.nanoTime();
             result = alert.showAndWait();
+            if (statistics != null) {
+                statistics.record(0, System.nanoTime() - executionStart);
+            }
         } else {
             AtomicBoolean dialogClosed = new AtomicBoolean(false);
+            long submissionTime = System.nanoTime();
             Platform.runLater(() -> {
+                long executionStart = System.nanoTime();
                 alert.showAndWait();
+                if (statistics != null) {
+                    statistics.record(executionStart - submissionTime, System.nanoTime() - executionStart);
+                }
                 dialogClosed.set(true);
                 synchronized (dialogClosed) {
                     dialogClosed.notifyAll();
@@ -249,4 +611,93 @@ public final class DialogFactory {
             button.setDefaultButton(type == defaultButton);
         }
     }
+
+    /**
+     * The state of a poolable {@link Alert} directly after its creation.
+     */
+    private static final class AlertDefaults {
+        private final String title;
+        private final String headerText;
+        private final String contentText;
+        private final List<ButtonType> buttonTypes;
+        private final Callback<ButtonType, ButtonType> resultConverter;
+        private final boolean resizable;
+        private final double prefWidth;
+        private final double prefHeight;
+        private final EventHandler<DialogEvent> onShowing;
+        private final EventHandler<DialogEvent> onShown;
+        private final EventHandler<DialogEvent> onHiding;
+        private final EventHandler<DialogEvent> onHidden;
+        private final EventHandler<DialogEvent> onCloseRequest;
+
+        private AlertDefaults(@NotNull Alert alert) {
+            title = alert.getTitle();
+            headerText = alert.getHeaderText();
+            contentText = alert.getContentText();
+            buttonTypes = List.copyOf(alert.getButtonTypes());
+            resultConverter = alert.getResultConverter();
+            resizable = alert.isResizable();
+            DialogPane dialogPane = alert.getDialogPane();
+            prefWidth = dialogPane.getPrefWidth();
+            prefHeight = dialogPane.getPrefHeight();
+            onShowing = alert.getOnShowing();
+            onShown = alert.getOnShown();
+            onHiding = alert.getOnHiding();
+            onHidden = alert.getOnHidden();
+            onCloseRequest = alert.getOnCloseRequest();
+        }
+
+        private void restore(@NotNull Alert alert) {
+            alert.setTitle(title);
+            alert.setHeaderText(headerText);
+            alert.setContentText(contentText);
+            alert.getButtonTypes().setAll(buttonTypes);
+            DialogPane dialogPane = alert.getDialogPane();
+            /* NOTE 2026-10-19: DialogPane caches the button of each ButtonType. Hence, the buttons of the restored
+             * types keep flags which were changed while using the alert (e.g. by setDefaultButton(Alert, ButtonType)).
+             * The flags are reset the same way DialogPane initializes them.
+             */
+            for (ButtonType type : buttonTypes) {
+                if (dialogPane.lookupButton(type) instanceof Button button) {
+                    button.setDefaultButton(type.getButtonData().isDefaultButton());
+                    button.setCancelButton(type.getButtonData().isCancelButton());
+                }
+            }
+            alert.setResultConverter(resultConverter);
+            alert.setResult(null);
+            alert.setResizable(resizable);
+            alert.setOnShowing(onShowing);
+            alert.setOnShown(onShown);
+            alert.setOnHiding(onHiding);
+            alert.setOnHidden(onHidden);
+            alert.setOnCloseRequest(onCloseRequest);
+            dialogPane.setExpandableContent(null);
+            dialogPane.setExpanded(false);
+            dialogPane.setPrefSize(prefWidth, prefHeight);
+        }
+    }
+
+    /**
+     * An alert shown by {@link #showAggregated(AlertType, Throwable, String...)} along with its duplicates.
+     */
+    private static final class AggregatedAlert {
+        private final long firstOccurrence;
+        private final AtomicLong occurrences = new AtomicLong(1);
+        /**
+         * Completes with the shown alert and its original title or with {@code null} if the alert was suppressed.
+         */
+        private final CompletableFuture<Pair<Alert, String>> alert = new CompletableFuture<>();
+        /**
+         * Shows the number of occurrences in the title of the alert. The number is read on the FX application thread
+         * when the update is applied. Hence, concurrent duplicates can not decrease the shown number. The same
+         * instance is published for each duplicate so that their updates are conflated.
+         */
+        private final Consumer<Pair<Alert, String>> titleUpdater = alertAndTitle -> alertAndTitle.getKey()
+                .setTitle(MessageFormat.format(RESOURCE_BUNDLE.getString("aggregatedTitle"),
+                        alertAndTitle.getValue(), occurrences.get()));
+
+        private AggregatedAlert(long firstOccurrence) {
+            this.firstOccurrence = firstOccurrence;
+        }
+    }
 }
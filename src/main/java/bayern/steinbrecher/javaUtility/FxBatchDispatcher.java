@@ -0,0 +1,99 @@
+package bayern.steinbrecher.javaUtility;
+
+import javafx.application.Platform;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Collects tasks submitted by arbitrary threads in a lock-free queue and executes them on the FX application thread
+ * using a single {@link Platform#runLater(Runnable)} call per drain instead of one call per task. A drain stops as
+ * soon as its time budget is exhausted and schedules a follow-up drain for the remaining tasks so that other events
+ * of the FX application thread are not starved.
+ *
+ * @author Stefan Huber
+ * @since 0.19
+ */
+final class FxBatchDispatcher {
+    private static final Logger LOGGER = Logger.getLogger(FxBatchDispatcher.class.getName());
+    private final Queue<Runnable> pendingTasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+    private volatile long drainBudgetNanos;
+
+    FxBatchDispatcher(@NotNull Duration drainBudget) {
+        setDrainBudget(drainBudget);
+    }
+
+    void setDrainBudget(@NotNull Duration drainBudget) {
+        if (drainBudget.isNegative() || drainBudget.isZero()) {
+            throw new IllegalArgumentException("The drain budget has to be positive");
+        }
+        drainBudgetNanos = drainBudget.toNanos();
+    }
+
+    @NotNull
+    Duration getDrainBudget() {
+        return Duration.ofNanos(drainBudgetNanos);
+    }
+
+    /**
+     * Enqueues the given task. This method may be called on any thread and never blocks.
+     */
+    void submit(@NotNull Runnable task) {
+        pendingTasks.add(Objects.requireNonNull(task));
+        UtilityMetrics.increment(UtilityMetrics.Counter.FX_TASKS_DISPATCHED);
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            try {
+                Platform.runLater(this::drain);
+            } catch (RuntimeException ex) {
+                /* NOTE 2026-10-20: Thrown e.g. if the FX toolkit is not initialized (yet). The flag has to be reset.
+                 * Otherwise, no later submission would ever schedule a drain again.
+                 */
+                drainScheduled.set(false);
+                throw ex;
+            }
+        }
+    }
+
+    private void drain() {
+        UtilityMetrics.increment(UtilityMetrics.Counter.FX_BATCHES);
+        /* NOTE 2026-10-19: The flag is reset before running any task. A task may start a nested event loop (e.g.
+         * Dialog#showAndWait()) which suspends this drain until it returns. Tasks submitted meanwhile have to schedule
+         * their own drain to run within the nested loop. Otherwise, they would wait for the nested loop to end.
+         */
+        drainScheduled.set(false);
+        long deadline = System.nanoTime() + drainBudgetNanos;
+        try {
+            Runnable task;
+            while ((task = pendingTasks.poll()) != null) {
+                // NOTE 2026-10-19: Tasks which are already queued have to run within a nested loop as well
+                if (!pendingTasks.isEmpty()) {
+                    scheduleDrain();
+                }
+                try {
+                    task.run();
+                } catch (RuntimeException ex) {
+                    LOGGER.log(Level.SEVERE, "A task dispatched to the FX application thread failed", ex);
+                }
+                if (System.nanoTime() - deadline >= 0) {
+                    break;
+                }
+            }
+        } finally {
+            // NOTE 2026-10-19: Also reached if a task throws an Error so that the remaining tasks are not lost
+            if (!pendingTasks.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package bayern.steinbrecher.javaUtility;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The latencies {@link FxLatencyMonitor} recorded for all tasks passed to the JavaFX application thread from a single
+ * call site.
+ *
+ * @author Stefan Huber
+ * @since 0.19
+ */
+public final class FxCallSiteStatistics {
+    private final String callSite;
+    private final LatencyHistogram queueWait = new LatencyHistogram();
+    private final LatencyHistogram execution = new LatencyHistogram();
+
+    FxCallSiteStatistics(@NotNull String callSite) {
+        this.callSite = callSite;
+    }
+
+    void record(long queueWaitNanos, long executionNanos) {
+        queueWait.record(queueWaitNanos);
+        execution.record(executionNanos);
+    }
+
+    /**
+     * @return The first stack frame outside of this library which submitted the tasks.
+     */
+    @NotNull
+    public String getCallSite() {
+        return callSite;
+    }
+
+    /**
+     * @return The time tasks waited in the event queue of the JavaFX application thread before being executed.
+     */
+    @NotNull
+    public LatencyHistogram getQueueWait() {
+        return queueWait;
+    }
+
+    /**
+     * @return The time tasks were executing on the JavaFX application thread.
+     */
+    @NotNull
+    public LatencyHistogram getExecution() {
+        return execution;
+    }
+
+    @Override
+    public String toString() {
+        return callSite + " queue wait: [" + queueWait + "] execution: [" + execution + "]";
+    }
+}
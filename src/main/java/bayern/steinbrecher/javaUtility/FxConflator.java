@@ -0,0 +1,120 @@
+package bayern.steinbrecher.javaUtility;
+
+import javafx.animation.AnimationTimer;
+import javafx.beans.value.WritableValue;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Applies values published for a target on the JavaFX application thread where only the newest value published for
+ * each target since the last application is applied. Values are applied at most once per pulse using an
+ * {@link AnimationTimer} which only runs while values are pending. Hence, frequent publications neither pile up in the
+ * event queue of the JavaFX application thread nor cause redundant updates nor occupy the JavaFX application thread
+ * beyond a single application per frame. Targets are compared by identity.
+ *
+ * @author Stefan Huber
+ * @since 0.19
+ */
+final class FxConflator {
+    private static final Logger LOGGER = Logger.getLogger(FxConflator.class.getName());
+    /**
+     * Represents a pending {@code null} value since {@link ConcurrentHashMap} does not support {@code null} values.
+     */
+    private static final Object NULL_VALUE = new Object();
+    private final Map<IdentityKey, Object> pendingValues = new ConcurrentHashMap<>();
+    private final Queue<IdentityKey> dirtyTargets = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AnimationTimer pulseListener = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            applyPendingValues();
+        }
+    };
+
+    void publish(@NotNull WritableValue<?> target, @Nullable Object value) {
+        publishImpl(target, value);
+    }
+
+    void publish(@NotNull Consumer<?> target, @Nullable Object value) {
+        publishImpl(target, value);
+    }
+
+    private void publishImpl(@NotNull Object target, @Nullable Object value) {
+        IdentityKey key = new IdentityKey(Objects.requireNonNull(target));
+        if (pendingValues.put(key, value == null ? NULL_VALUE : value) == null) {
+            dirtyTargets.add(key);
+            if (running.compareAndSet(false, true)) {
+                try {
+                    PlatformUtility.runLaterBatched(pulseListener::start);
+                } catch (RuntimeException ex) {
+                    // NOTE 2026-10-20: Otherwise, no later publication would ever start the timer again
+                    running.set(false);
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void applyPendingValues() {
+        int numberOfTargets = dirtyTargets.size();
+        IdentityKey key;
+        /* NOTE 2026-10-18: Only targets which were dirty before starting the application are updated. Targets which
+         * become dirty while applying values are applied in the next pulse.
+         */
+        while (numberOfTargets-- > 0 && (key = dirtyTargets.poll()) != null) {
+            Object value = pendingValues.remove(key);
+            if (value == NULL_VALUE) {
+                value = null;
+            }
+            try {
+                if (key.target instanceof WritableValue<?> writableValue) {
+                    ((WritableValue<Object>) writableValue).setValue(value);
+                } else {
+                    ((Consumer<Object>) key.target).accept(value);
+                }
+            } catch (RuntimeException ex) {
+                LOGGER.log(Level.SEVERE, "Could not apply the latest value to its target", ex);
+            }
+        }
+
+        if (dirtyTargets.isEmpty()) {
+            pulseListener.stop();
+            running.set(false);
+            /* NOTE 2026-10-20: A value published after checking for dirty targets but before resetting the flag did
+             * not start the timer.
+             */
+            if (!dirtyTargets.isEmpty() && running.compareAndSet(false, true)) {
+                pulseListener.start();
+            }
+        }
+    }
+
+    private static final class IdentityKey {
+        private final Object target;
+
+        private IdentityKey(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof IdentityKey otherKey && otherKey.target == target;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(target);
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package bayern.steinbrecher.javaUtility;
+
+import javafx.application.Platform;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Opt-in instrumentation of the tasks which {@link PlatformUtility#runLaterBlocking(ExceptionalCallable, Class)} and
+ * {@link DialogFactory#showAndWait(javafx.scene.control.Alert)} pass to the JavaFX application thread. While enabled
+ * it records for every call site how long these tasks wait in the event queue and how long they run. Additionally, a
+ * watchdog periodically posts a heartbeat to the JavaFX application thread. If the heartbeat is not processed within
+ * the stall threshold the stack of the JavaFX application thread is captured and logged. While disabled the
+ * instrumented methods only pay for reading a volatile flag.
+ *
+ * @author Stefan Huber
+ * @since 0.19
+ */
+public final class FxLatencyMonitor {
+    private static final Logger LOGGER = Logger.getLogger(FxLatencyMonitor.class.getName());
+    private static final String MBEAN_NAME = "bayern.steinbrecher.javaUtility:type=FxLatencyMonitor";
+    private static final String LIBRARY_PACKAGE_PREFIX = FxLatencyMonitor.class.getPackageName() + ".";
+    private static final int MAX_RECENT_STALLS = 16;
+    private static final long MIN_WATCHDOG_PERIOD_MILLIS = 10;
+    private static final Map<String, FxCallSiteStatistics> CALL_SITES = new ConcurrentHashMap<>();
+    private static final Deque<FxStall> RECENT_STALLS = new ArrayDeque<>();
+    private static final AtomicLong STALL_COUNT = new AtomicLong();
+    private static final Object WATCHDOG_LOCK = new Object();
+    /**
+     * Point in time (see {@link System#nanoTime()}) the currently pending heartbeat was posted or {@code 0} if there
+     * is none. Only accessed by the watchdog thread and the JavaFX application thread.
+     */
+    private static final AtomicLong HEARTBEAT_POSTED_AT = new AtomicLong();
+    private static volatile boolean enabled = false;
+    private static volatile Duration stallThreshold = Duration.ofMillis(500);
+    private static ScheduledExecutorService watchdog;
+    private static volatile boolean currentStallReported = false;
+    private static volatile Thread fxThread;
+
+    private FxLatencyMonitor() {
+        throw new UnsupportedOperationException("The construction of instances is prohibited");
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables recording latencies and starts or stops the stall detecting watchdog accordingly.
+     */
+    public static void setEnabled(boolean enabled) {
+        synchronized (WATCHDOG_LOCK) {
+            FxLatencyMonitor.enabled = enabled;
+            restartWatchdog();
+        }
+    }
+
+    @NotNull
+    public static Duration getStallThreshold() {
+        return stallThreshold;
+    }
+
+    public static void setStallThreshold(@NotNull Duration stallThreshold) {
+        if (stallThreshold.isNegative() || stallThreshold.isZero()) {
+            throw new IllegalArgumentException("The stall threshold has to be positive");
+        }
+        synchronized (WATCHDOG_LOCK) {
+            FxLatencyMonitor.stallThreshold = stallThreshold;
+            restartWatchdog();
+        }
+    }
+
+    @NotNull
+    public static List<FxCallSiteStatistics> getCallSiteStatistics() {
+        return new ArrayList<>(CALL_SITES.values());
+    }
+
+    public static long getStallCount() {
+        return STALL_COUNT.get();
+    }
+
+    /**
+     * @return The most recently detected stalls, the oldest first.
+     */
+    @NotNull
+    public static List<FxStall> getRecentStalls() {
+        synchronized (RECENT_STALLS) {
+            return new ArrayList<>(RECENT_STALLS);
+        }
+    }
+
+    public static void reset() {
+        CALL_SITES.clear();
+        STALL_COUNT.set(0);
+        synchronized (RECENT_STALLS) {
+            RECENT_STALLS.clear();
+        }
+    }
+
+    /**
+     * Registers a {@link FxLatencyMonitorMXBean} at the platform MBean server.
+     *
+     * @throws JMException Thrown if the MBean could not be registered, e.g. if it is already registered.
+     */
+    public static void registerMBean() throws JMException {
+        ManagementFactory.getPlatformMBeanServer()
+                .registerMBean(new MonitorMXBean(), new ObjectName(MBEAN_NAME));
+    }
+
+    /**
+     * Unregisters the {@link FxLatencyMonitorMXBean} from the platform MBean server.
+     *
+     * @throws JMException Thrown if the MBean is not registered.
+     */
+    public static void unregisterMBean() throws JMException {
+        ManagementFactory.getPlatformMBeanServer()
+                .unregisterMBean(new ObjectName(MBEAN_NAME));
+    }
+
+    /**
+     * Determines the statistics of the call site which called into this library.
+     *
+     * @return The statistics to record the latencies of the current task with or {@code null} if the monitor is
+     * disabled.
+     */
+    @Nullable
+    static FxCallSiteStatistics lookupCallSite() {
+        FxCallSiteStatistics statistics;
+        if (enabled) {
+            String callSite = StackWalker.getInstance()
+                    .walk(frames -> frames.filter(f -> !f.getClassName().startsWith(LIBRARY_PACKAGE_PREFIX))
+                            .findFirst()
+                            .map(f -> f.getClassName() + "." + f.getMethodName() + ":" + f.getLineNumber())
+                            .orElse("<unknown>"));
+            statistics = CALL_SITES.computeIfAbsent(callSite, FxCallSiteStatistics::new);
+        } else {
+            statistics = null;
+        }
+        return statistics;
+    }
+
+    private static void restartWatchdog() {
+        assert Thread.holdsLock(WATCHDOG_LOCK);
+        if (watchdog != null) {
+            watchdog.shutdownNow();
+            watchdog = null;
+        }
+        // NOTE 2026-10-19: A heartbeat posted by the previous watchdog may never have been posted successfully
+        HEARTBEAT_POSTED_AT.set(0);
+        if (enabled) {
+            long periodMillis = Math.max(MIN_WATCHDOG_PERIOD_MILLIS, stallThreshold.toMillis() / 2);
+            watchdog = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "FxLatencyMonitor-watchdog");
+                thread.setDaemon(true);
+                return thread;
+            });
+            watchdog.scheduleAtFixedRate(
+                    FxLatencyMonitor::checkHeartbeat, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static void checkHeartbeat() {
+        long postedAt = HEARTBEAT_POSTED_AT.get();
+        long now = System.nanoTime();
+        if (postedAt == 0) {
+            HEARTBEAT_POSTED_AT.set(now);
+            currentStallReported = false;
+            try {
+                Platform.runLater(() -> {
+                    fxThread = Thread.currentThread();
+                    HEARTBEAT_POSTED_AT.set(0);
+                });
+            } catch (IllegalStateException ex) {
+                /* NOTE 2026-10-19: Thrown if the FX toolkit is not running (yet). Letting it escape would cancel the
+                 * periodic check for good.
+                 */
+                LOGGER.log(Level.FINE, "Could not post a heartbeat to the FX application thread", ex);
+                HEARTBEAT_POSTED_AT.set(0);
+            }
+        } else {
+            long blockedNanos = now - postedAt;
+            Thread currentFxThread = fxThread;
+            if (!currentStallReported && blockedNanos > stallThreshold.toNanos() && currentFxThread != null) {
+                currentStallReported = true;
+                FxStall stall = new FxStall(
+                        Instant.now(), Duration.ofNanos(blockedNanos), currentFxThread.getStackTrace());
+                STALL_COUNT.incrementAndGet();
+                synchronized (RECENT_STALLS) {
+                    if (RECENT_STALLS.size() >= MAX_RECENT_STALLS) {
+                        RECENT_STALLS.removeFirst();
+                    }
+                    RECENT_STALLS.addLast(stall);
+                }
+                LOGGER.log(Level.WARNING, stall.toString());
+            }
+        }
+    }
+
+    private static final class MonitorMXBean implements FxLatencyMonitorMXBean {
+        @Override
+        public boolean isEnabled() {
+            return FxLatencyMonitor.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            FxLatencyMonitor.setEnabled(enabled);
+        }
+
+        @Override
+        public long getStallThresholdMillis() {
+            return FxLatencyMonitor.getStallThreshold().toMillis();
+        }
+
+        @Override
+        public void setStallThresholdMillis(long stallThresholdMillis) {
+            FxLatencyMonitor.setStallThreshold(Duration.ofMillis(stallThresholdMillis));
+        }
+
+        @Override
+        public long getStallCount() {
+            return FxLatencyMonitor.getStallCount();
+        }
+
+        @Override
+        public String[] getRecentStalls() {
+            return FxLatencyMonitor.getRecentStalls()
+                    .stream()
+                    .map(FxStall::toString)
+                    .toArray(String[]::new);
+        }
+
+        @Override
+        public String[] getCallSiteSummaries() {
+            return FxLatencyMonitor.getCallSiteStatistics()
+                    .stream()
+                    .map(FxCallSiteStatistics::toString)
+                    .toArray(String[]::new);
+        }
+
+        @Override
+        public void reset() {
+            FxLatencyMonitor.reset();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package bayern.steinbrecher.javaUtility;
+
+/**
+ * JMX view on {@link FxLatencyMonitor}.
+ *
+ * @author Stefan Huber
+ * @since 0.19
+ */
+public interface FxLatencyMonitorMXBean {
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    long getStallThresholdMillis();
+
+    void setStallThresholdMillis(long stallThresholdMillis);
+
+    long getStallCount();
+
+    /**
+     * @return Descriptions including the stack of the JavaFX application thread of the most recently detected stalls.
+     */
+    String[] getRecentStalls();
+
+    /**
+     * @return Queue wait and execution time summaries for every call site.
+     */
+    String[] getCallSiteSummaries();
+
+    void reset();
+}
@@ -0,0 +1,55 @@
+package bayern.steinbrecher.javaUtility;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Describes a period in which the JavaFX application thread did not process its event queue for longer than the
+ * threshold of {@link FxLatencyMonitor}.
+ *
+ * @author Stefan Huber
+ * @since 0.19
+ */
+public final class FxStall {
+    private final Instant detectedAt;
+    private final Duration blockedFor;
+    private final StackTraceElement[] fxThreadStack;
+
+    FxStall(@NotNull Instant detectedAt, @NotNull Duration blockedFor, @NotNull StackTraceElement[] fxThreadStack) {
+        this.detectedAt = detectedAt;
+        this.blockedFor = blockedFor;
+        this.fxThreadStack = fxThreadStack;
+    }
+
+    @NotNull
+    public Instant getDetectedAt() {
+        return detectedAt;
+    }
+
+    /**
+     * @return How long the JavaFX application thread was already blocked when the stall was detected.
+     */
+    @NotNull
+    public Duration getBlockedFor() {
+        return blockedFor;
+    }
+
+    /**
+     * @return The stack of the JavaFX application thread at the time the stall was detected.
+     */
+    @NotNull
+    public StackTraceElement[] getFxThreadStack() {
+        return fxThreadStack.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "FX thread stalled for " + blockedFor.toMillis() + "ms at " + detectedAt + Arrays.stream(fxThreadStack)
+                .map(frame -> "\n\tat " + frame)
+                .collect(Collectors.joining());
+    }
+}
@@ -0,0 +1,163 @@
+package bayern.steinbrecher.javaUtility;
+
+import javafx.animation.AnimationTimer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs large UI updates on the JavaFX application thread in small steps instead of as one monolithic task. Every work
+ * item is an {@link Iterator} of steps. On every pulse the scheduler executes steps of the most urgent work items
+ * until the frame budget is exhausted and defers the remaining steps to the next pulse. Hence, the JavaFX application
+ * thread is able to process input events and render frames between the slices of long-running work. Work items are
+ * ordered by their {@link Priority}, then by their deadline and then by the order of their submission. Since the
+ * order is reevaluated after every step newly submitted work of a higher priority preempts work of lower priority.
+ *
+ * @author Stefan Huber
+ * @since 0.19
+ */
+public final class FxWorkScheduler {
+    private static final Comparator<WorkItem> URGENCY = Comparator.comparing((WorkItem w) -> w.priority)
+            .thenComparing(w -> w.deadline, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparingLong(w -> w.sequenceNumber);
+    private final Queue<WorkItem> submittedWork = new ConcurrentLinkedQueue<>();
+    /**
+     * Only accessed on the JavaFX application thread.
+     */
+    private final Queue<WorkItem> scheduledWork = new PriorityQueue<>(URGENCY);
+    private final AtomicLong nextSequenceNumber = new AtomicLong();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final long frameBudgetNanos;
+    private final AnimationTimer pulseListener = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            runSlice();
+        }
+    };
+
+    /**
+     * @param frameBudget The time the scheduler may occupy the JavaFX application thread per pulse. Note that the
+     *                    last step of a pulse may exceed the budget since steps are never interrupted.
+     */
+    public FxWorkScheduler(@NotNull Duration frameBudget) {
+        if (frameBudget.isNegative() || frameBudget.isZero()) {
+            throw new IllegalArgumentException("The frame budget has to be positive");
+        }
+        this.frameBudgetNanos = frameBudget.toNanos();
+    }
+
+    /**
+     * Schedules the given work item. This method may be called on any thread.
+     *
+     * @param steps    The steps to run on the JavaFX application thread. The iterator itself is advanced on the JavaFX
+     *                 application thread as well.
+     * @param deadline Work items with an earlier deadline are executed first among items of the same priority. If
+     *                 {@code null} the item is executed after all items of the same priority having a deadline.
+     * @return A {@link CompletableFuture} which completes after all steps ran or exceptionally if any step fails.
+     * Cancelling it skips the remaining steps.
+     */
+    @NotNull
+    public CompletableFuture<Void> submit(@NotNull Iterator<? extends Runnable> steps, @NotNull Priority priority,
+                                          @Nullable Instant deadline) {
+        WorkItem workItem = new WorkItem(Objects.requireNonNull(steps), Objects.requireNonNull(priority), deadline,
+                nextSequenceNumber.getAndIncrement());
+        submittedWork.add(workItem);
+        if (running.compareAndSet(false, true)) {
+            PlatformUtility.runLaterBatched(pulseListener::start);
+        }
+        return workItem.completion;
+    }
+
+    /**
+     * Same as {@link #submit(Iterator, Priority, Instant)} without a deadline.
+     */
+    @NotNull
+    public CompletableFuture<Void> submit(@NotNull Iterator<? extends Runnable> steps, @NotNull Priority priority) {
+        return submit(steps, priority, null);
+    }
+
+    /**
+     * Schedules a work item consisting of a single step.
+     */
+    @NotNull
+    public CompletableFuture<Void> submit(@NotNull Runnable step, @NotNull Priority priority) {
+        return submit(List.of(step).iterator(), priority, null);
+    }
+
+    private void runSlice() {
+        long deadline = System.nanoTime() + frameBudgetNanos;
+        do {
+            WorkItem submitted;
+            while ((submitted = submittedWork.poll()) != null) {
+                scheduledWork.add(submitted);
+            }
+            WorkItem mostUrgent = scheduledWork.peek();
+            if (mostUrgent == null) {
+                break;
+            }
+            if (mostUrgent.completion.isDone()) {
+                scheduledWork.remove();
+            } else {
+                try {
+                    if (mostUrgent.steps.hasNext()) {
+                        mostUrgent.steps.next().run();
+                    } else {
+                        scheduledWork.remove();
+                        mostUrgent.completion.complete(null);
+                    }
+                } catch (RuntimeException ex) {
+                    scheduledWork.remove();
+                    mostUrgent.completion.completeExceptionally(ex);
+                }
+            }
+        } while (System.nanoTime() - deadline < 0);
+
+        if (scheduledWork.isEmpty() && submittedWork.isEmpty()) {
+            pulseListener.stop();
+            running.set(false);
+            /* NOTE 2026-10-18: Work submitted after checking for submitted work but before resetting the flag did not
+             * start the timer.
+             */
+            if (!submittedWork.isEmpty() && running.compareAndSet(false, true)) {
+                pulseListener.start();
+            }
+        }
+    }
+
+    /**
+     * The priorities of work items from the most urgent one to the least urgent one.
+     */
+    public enum Priority {
+        HIGH,
+        NORMAL,
+        BULK
+    }
+
+    private static final class WorkItem {
+        private final Iterator<? extends Runnable> steps;
+        private final Priority priority;
+        private final Instant deadline;
+        private final long sequenceNumber;
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+        private WorkItem(Iterator<? extends Runnable> steps, Priority priority, Instant deadline,
+                         long sequenceNumber) {
+            this.steps = steps;
+            this.priority = priority;
+            this.deadline = deadline;
+            this.sequenceNumber = sequenceNumber;
+        }
+    }
+}
@@ -3,11 +3,15 @@ package bayern.steinbrecher.javaUtility;
 import bayern.steinbrecher.jsch.ChannelExec;
 import javafx.concurrent.Task;
 import javafx.util.Pair;
+import org.jetbrains.annotations.NotNull;
 
 import java.io.ByteArrayOutputStream;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
@@ -53,6 +57,7 @@ public final class IOUtility {
                         CharBuffer received;
                         int numReadBytes = rbc.read(byteBuffer);
                         if (numReadBytes > -1) {
+                            UtilityMetrics.add(UtilityMetrics.Counter.BYTES_READ, numReadBytes);
                             byteBuffer.flip();
                             received = charset.decode(byteBuffer);
                             byteBuffer.clear();
@@ -76,6 +81,7 @@ public final class IOUtility {
                     LOGGER.log(Level.WARNING, "Stopped reading the input stream", ex);
                     retrievingData = false;
                 } catch (TimeoutException ex) {
+                    UtilityMetrics.increment(UtilityMetrics.Counter.READ_TIMEOUTS);
                     if (isSecondTimeoutInARow) {
                         LOGGER.log(Level.WARNING, "Stopped reading the input stream. "
                                 + "Input stream doesn't seem to yield further data. "
@@ -112,6 +118,7 @@ public final class IOUtility {
                 if (i < 0) {
                     break;
                 }
+                UtilityMetrics.add(UtilityMetrics.Counter.BYTES_READ, i);
                 outputBuffer.write(tmp, 0, i);
             }
             while (errStream.available() > 0) {
@@ -119,6 +126,7 @@ public final class IOUtility {
                 if (i < 0) {
                     break;
                 }
+                UtilityMetrics.add(UtilityMetrics.Counter.BYTES_READ, i);
                 errorBuffer.write(tmp, 0, i);
             }
             if (channel.isClosed()) {
@@ -145,7 +153,9 @@ public final class IOUtility {
      */
     public static void writeCSV(Path outputPath, Iterable<? extends Iterable<String>> rowMajorContent, CSVFormat format)
             throws IOException {
-        try (Writer writer = new FileWriter(outputPath.toFile(), format.getEncoding())) {
+        // NOTE 2026-10-20: Count the encoded bytes including the BOM instead of the written chars
+        try (Writer writer = new OutputStreamWriter(
+                new MeteredOutputStream(new FileOutputStream(outputPath.toFile())), format.getEncoding())) {
             if (format.isWithBOM()) {
                 /* NOTE 2021-03-02
                  * FEFF because this is the Unicode char represented by the UTF-8 byte order mark (EF BB BF)
@@ -167,4 +177,25 @@ public final class IOUtility {
             }
         }
     }
+
+    /**
+     * Counts the bytes written to the underlying {@link OutputStream} as {@link UtilityMetrics.Counter#BYTES_WRITTEN}.
+     */
+    private static final class MeteredOutputStream extends FilterOutputStream {
+        private MeteredOutputStream(@NotNull OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            UtilityMetrics.increment(UtilityMetrics.Counter.BYTES_WRITTEN);
+        }
+
+        @Override
+        public void write(byte @NotNull [] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            UtilityMetrics.add(UtilityMetrics.Counter.BYTES_WRITTEN, len);
+        }
+    }
 }
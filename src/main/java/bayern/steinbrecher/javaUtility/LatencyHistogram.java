@@ -0,0 +1,97 @@
+package bayern.steinbrecher.javaUtility;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread safe histogram of durations with exponentially growing buckets, i.e. bucket {@code i} contains all
+ * durations between {@code 2^(i-1)} (inclusive) and {@code 2^i} (exclusive) nanoseconds whereas bucket 0 contains
+ * zero durations only. Recording a duration does not allocate any memory. The resulting percentiles are upper bounds
+ * which are off by at most a factor of 2. Only this library records durations. Others can only read them.
+ *
+ * @author Stefan Huber
+ * @since 0.19
+ */
+public final class LatencyHistogram {
+    private static final int NUMBER_OF_BUCKETS = Long.SIZE;
+    private final AtomicLongArray buckets = new AtomicLongArray(NUMBER_OF_BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    LatencyHistogram() {
+    }
+
+    /**
+     * @param nanos The duration to record. Negative durations are treated as zero.
+     */
+    void record(long nanos) {
+        long duration = Math.max(0, nanos);
+        buckets.incrementAndGet(NUMBER_OF_BUCKETS - Long.numberOfLeadingZeros(duration));
+        count.increment();
+        totalNanos.add(duration);
+        maxNanos.accumulate(duration);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    public long getMeanNanos() {
+        long currentCount = getCount();
+        return currentCount == 0 ? 0 : getTotalNanos() / currentCount;
+    }
+
+    /**
+     * @param percentile The percentile to determine in the range of {@code [0, 1]}.
+     * @return An upper bound of the given percentile of all recorded durations or 0 if no duration was recorded yet.
+     */
+    public long getPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 1) {
+            throw new IllegalArgumentException("The percentile has to be within [0, 1]");
+        }
+        long total = 0;
+        long[] snapshot = new long[NUMBER_OF_BUCKETS];
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        long percentileNanos = 0;
+        if (total > 0) {
+            long rank = Math.max(1, (long) Math.ceil(percentile * total));
+            long seen = 0;
+            for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+                seen += snapshot[i];
+                if (seen >= rank) {
+                    percentileNanos = Math.min(getMaxNanos(), i >= NUMBER_OF_BUCKETS - 1 ? Long.MAX_VALUE : 1L << i);
+                    break;
+                }
+            }
+        }
+        return percentileNanos;
+    }
+
+    void reset() {
+        for (int i = 0; i < NUMBER_OF_BUCKETS; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "count: " + getCount() + ", mean: " + getMeanNanos() + "ns, p50: " + getPercentileNanos(0.5)
+                + "ns, p99: " + getPercentileNanos(0.99) + "ns, max: " + getMaxNanos() + "ns";
+    }
+}
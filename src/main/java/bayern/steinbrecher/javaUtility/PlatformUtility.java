@@ -1,38 +1,125 @@
 package bayern.steinbrecher.javaUtility;
 
 import javafx.application.Platform;
+import javafx.beans.value.WritableValue;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * @author Stefan Huber
  * @since 0.18
  */
 public final class PlatformUtility {
+    private static final Logger LOGGER = Logger.getLogger(PlatformUtility.class.getName());
+    private static final Duration DEFAULT_DISPATCH_BUDGET = Duration.ofMillis(8);
+    private static final FxBatchDispatcher DISPATCHER = new FxBatchDispatcher(DEFAULT_DISPATCH_BUDGET);
+    private static final FxConflator CONFLATOR = new FxConflator();
+    private static final Executor FX_EXECUTOR = PlatformUtility::runLaterBatched;
+
     private PlatformUtility() {
         throw new UnsupportedOperationException("The construction of instances is prohibited");
     }
 
+    /**
+     * Sets how long a single batch of tasks submitted via {@link #runLaterBatched(Runnable)} or
+     * {@link #runLaterBlocking(ExceptionalCallable, Class)} may occupy the JavaFX application thread before the
+     * remaining tasks are deferred to a subsequent batch.
+     *
+     * @since 0.19
+     */
+    public static void setDispatchBudget(@NotNull Duration budget) {
+        DISPATCHER.setDrainBudget(budget);
+    }
+
+    /**
+     * @since 0.19
+     */
+    @NotNull
+    public static Duration getDispatchBudget() {
+        return DISPATCHER.getDrainBudget();
+    }
+
+    /**
+     * Like {@link Platform#runLater(Runnable)} but tasks submitted by any number of threads are executed in batches
+     * which require only a single {@link Platform#runLater(Runnable)} call each. Tasks are executed in the order of
+     * their submission. This function can be run on any thread.
+     *
+     * @see #setDispatchBudget(Duration)
+     * @since 0.19
+     */
+    public static void runLaterBatched(@NotNull Runnable task) {
+        DISPATCHER.submit(task);
+    }
+
+    /**
+     * Sets the given value on the JavaFX application thread. In contrast to {@link #runLaterBatched(Runnable)} values
+     * are conflated, i.e. if multiple values are published for the same target before the JavaFX application thread
+     * applies them only the newest one is applied. Publishing never blocks and no matter how many values are published
+     * there is at most a single pending update per target. This function can be run on any thread.
+     *
+     * @param target The target to set the value on. Targets are compared by identity.
+     * @since 0.19
+     */
+    public static <T> void runLaterConflated(@NotNull WritableValue<T> target, @Nullable T value) {
+        CONFLATOR.publish(target, value);
+    }
+
+    /**
+     * Same as {@link #runLaterConflated(WritableValue, Object)} but passes the newest value to the given
+     * {@link Consumer}. NOTE: Conflation requires passing the same {@link Consumer} instance for each publication.
+     * Creating a new lambda for every call defeats it.
+     *
+     * @since 0.19
+     */
+    public static <T> void runLaterConflated(@NotNull Consumer<? super T> target, @Nullable T value) {
+        CONFLATOR.publish(target, value);
+    }
+
+    /**
+     * Runs the given task on the JavaFX application thread and waits for its result. If this method is called on the
+     * JavaFX application thread the task is executed immediately. Otherwise, it is executed as part of a batch (see
+     * {@link #runLaterBatched(Runnable)}).
+     *
+     * @see FxLatencyMonitor
+     */
     @SuppressWarnings("unchecked")
     public static <R, E extends Exception> R runLaterBlocking(
             @NotNull ExceptionalCallable<R, E> task, @Nullable Class<E> exceptionTypeDummy) throws E {
         AtomicReference<R> result = new AtomicReference<>();
+        FxCallSiteStatistics statistics = FxLatencyMonitor.lookupCallSite();
         if (Platform.isFxApplicationThread()) {
-            result.set(task.call(exceptionTypeDummy));
+            long executionStart = System.nanoTime();
+            try {
+                result.set(task.call(exceptionTypeDummy));
+            } finally {
+                if (statistics != null) {
+                    statistics.record(0, System.nanoTime() - executionStart);
+                }
+            }
         } else {
             CountDownLatch countDown = new CountDownLatch(1);
             AtomicReference<E> exception = new AtomicReference<>();
-            Platform.runLater(() -> {
+            long submissionTime = System.nanoTime();
+            DISPATCHER.submit(() -> {
+                long executionStart = System.nanoTime();
                 try {
                     result.set(task.call(exceptionTypeDummy));
                 } catch (Exception ex) {
                     exception.set((E) ex);
                 } finally {
+                    if (statistics != null) {
+                        statistics.record(executionStart - submissionTime, System.nanoTime() - executionStart);
+                    }
                     countDown.countDown();
                 }
             });
@@ -53,32 +140,80 @@ public final class PlatformUtility {
      * and ensure that the {@code fxTask} runs on the JavaFXApplication thread.
      * This function serves the purpose of running as view commands as possible on the JavaFXApplication thread to
      * ensure that all GUI components remain responsive.
-     * This function can be run on any thread.
+     * This function can be run on any thread. If it is run on the JavaFXApplication thread it returns immediately and
+     * any exception of the tasks is logged instead of being thrown. Use
+     * {@link #runLaterThriftilyAsync(ExceptionalCallable, Function, Function)} for being able to handle them.
      */
-    @SuppressWarnings("unchecked")
     public static <R, S, E extends Exception> void runLaterThriftily(
             @NotNull ExceptionalCallable<R, E> preNonFxTask, @NotNull Function<R, S> fxTask,
             @NotNull Consumer<S> postNonFxTask, @Nullable Class<E> exceptionTypeDummy) throws E {
-        AtomicReference<E> exception = new AtomicReference<>();
-        ExceptionalCallable<Void, E> nonFxTask = () -> {
+        if (Platform.isFxApplicationThread()) {
+            runLaterThriftilyAsync(
+                    () -> preNonFxTask.call(exceptionTypeDummy),
+                    fxTask,
+                    fxTaskResult -> {
+                        postNonFxTask.accept(fxTaskResult);
+                        return null;
+                    })
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            LOGGER.log(Level.SEVERE, "A task passed to runLaterThriftily(...) failed", ex);
+                        }
+                    });
+        } else {
             R preTaskResult = preNonFxTask.call(exceptionTypeDummy);
             S fxTaskResult = runLaterBlocking(() -> fxTask.apply(preTaskResult), exceptionTypeDummy);
             postNonFxTask.accept(fxTaskResult);
-            return null;
-        };
-        if (Platform.isFxApplicationThread()) {
-            new Thread(() -> {
-                try {
-                    nonFxTask.call(exceptionTypeDummy);
-                } catch (Exception ex) {
-                    exception.set((E) ex); // Per design of ExceptionalCallable#call() this cannot be another exception
-                }
-            }).start();
-        } else {
-            nonFxTask.call(exceptionTypeDummy);
-        }
-        if (exception.get() != null) {
-            throw exception.get();
         }
     }
+
+    /**
+     * Same as {@link #runLaterThriftilyAsync(ExceptionalCallable, Function, Function, Executor)} but runs the non-FX
+     * tasks on a shared pool of daemon threads.
+     *
+     * @since 0.19
+     */
+    @NotNull
+    public static <R, S, T> CompletableFuture<T> runLaterThriftilyAsync(
+            @NotNull ExceptionalCallable<R, ?> preNonFxTask, @NotNull Function<R, S> fxTask,
+            @NotNull Function<S, T> postNonFxTask) {
+        return runLaterThriftilyAsync(preNonFxTask, fxTask, postNonFxTask, ConcurrencyUtility.BACKGROUND_EXECUTOR);
+    }
+
+    /**
+     * Runs {@code preNonFxTask} and {@code postNonFxTask} using the given {@link Executor} and {@code fxTask} on the
+     * JavaFXApplication thread in between. This function can be run on any thread and never blocks.
+     *
+     * @param nonFxExecutor The {@link Executor} to run the non-FX tasks with. It must not execute tasks on the
+     *                      JavaFXApplication thread.
+     * @return A {@link CompletableFuture} yielding the result of {@code postNonFxTask}. If any of the tasks throws an
+     * exception the subsequent tasks are skipped and the returned {@link CompletableFuture} completes exceptionally
+     * with this exception as cause.
+     * @since 0.19
+     */
+    @NotNull
+    public static <R, S, T> CompletableFuture<T> runLaterThriftilyAsync(
+            @NotNull ExceptionalCallable<R, ?> preNonFxTask, @NotNull Function<R, S> fxTask,
+            @NotNull Function<S, T> postNonFxTask, @NotNull Executor nonFxExecutor) {
+        CompletableFuture<R> preTaskResult = new CompletableFuture<>();
+        nonFxExecutor.execute(() -> {
+            try {
+                preTaskResult.complete(preNonFxTask.callUnsafe());
+            } catch (Throwable ex) {
+                preTaskResult.completeExceptionally(ex);
+            }
+        });
+        return preTaskResult.thenApplyAsync(fxTask, FX_EXECUTOR)
+                .thenApplyAsync(postNonFxTask, nonFxExecutor);
+    }
+
+    /**
+     * @return An {@link Executor} running its tasks on the JavaFXApplication thread as described by
+     * {@link #runLaterBatched(Runnable)}.
+     * @since 0.19
+     */
+    @NotNull
+    public static Executor getFxExecutor() {
+        return FX_EXECUTOR;
+    }
 }
@@ -0,0 +1,483 @@
+package bayern.steinbrecher.javaUtility;
+
+import bayern.steinbrecher.jsch.ChannelExec;
+import bayern.steinbrecher.jsch.JSch;
+import bayern.steinbrecher.jsch.JSchException;
+import bayern.steinbrecher.jsch.Session;
+import javafx.util.Pair;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps authenticated SSH {@link Session}s alive and hands out {@link ChannelExec}s on them so that executing multiple
+ * commands on the same host requires only a single SSH handshake. Sessions are pooled per host, user and port.
+ * Concurrent acquisitions for the same host, user and port share the handshake of a session being connected as long as
+ * it has free slots for them. Each session carries at most {@link #getMaxChannelsPerSession()} channels at once and at
+ * most {@link #getMaxConcurrentChannelsPerHost()} channels are open per host at once. Sessions which did not carry a
+ * channel for longer than {@link #getIdleTimeout()} are disconnected by a background thread which also sends
+ * keep-alive messages to the remaining idle sessions and evicts those which fail to respond.
+ *
+ * @author Stefan Huber
+ * @since 0.19
+ */
+public final class SshSessionPool implements AutoCloseable {
+    private static final Logger LOGGER = Logger.getLogger(SshSessionPool.class.getName());
+    /**
+     * Matches the default of {@code MaxSessions} of OpenSSH servers.
+     */
+    public static final int DEFAULT_MAX_CHANNELS_PER_SESSION = 10;
+    public static final int DEFAULT_MAX_CONCURRENT_CHANNELS_PER_HOST = 20;
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(5);
+    public static final Duration DEFAULT_HEALTH_CHECK_INTERVAL = Duration.ofSeconds(30);
+    public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private final JSch jsch;
+    private final SessionConfigurer configurer;
+    private final Map<SessionKey, List<PooledSession>> sessions = new ConcurrentHashMap<>();
+    private final Map<SessionKey, PendingConnect> pendingConnects = new ConcurrentHashMap<>();
+    private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService maintenanceExecutor;
+    private final int maxConcurrentChannelsPerHost;
+    private final Duration healthCheckInterval;
+    private volatile int maxChannelsPerSession = DEFAULT_MAX_CHANNELS_PER_SESSION;
+    private volatile long idleTimeoutNanos = DEFAULT_IDLE_TIMEOUT.toNanos();
+    private volatile int connectTimeoutMillis = (int) DEFAULT_CONNECT_TIMEOUT.toMillis();
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a pool using {@link #DEFAULT_MAX_CONCURRENT_CHANNELS_PER_HOST} and
+     * {@link #DEFAULT_HEALTH_CHECK_INTERVAL}.
+     *
+     * @see #SshSessionPool(JSch, SessionConfigurer, int, Duration)
+     */
+    public SshSessionPool(@NotNull JSch jsch, @NotNull SessionConfigurer configurer) {
+        this(jsch, configurer, DEFAULT_MAX_CONCURRENT_CHANNELS_PER_HOST, DEFAULT_HEALTH_CHECK_INTERVAL);
+    }
+
+    /**
+     * @param jsch                         The {@link JSch} instance to create sessions with. Identities and known
+     *                                     hosts have to be configured on it.
+     * @param configurer                   Configures each created {@link Session} before it connects, e.g. sets its
+     *                                     password or its {@code StrictHostKeyChecking}.
+     * @param maxConcurrentChannelsPerHost The maximum number of channels open at once per host regardless of the user
+     *                                     and port.
+     * @param healthCheckInterval          The interval of checking idle sessions for being alive and evicting those
+     *                                     exceeding the idle timeout.
+     */
+    public SshSessionPool(@NotNull JSch jsch, @NotNull SessionConfigurer configurer, int maxConcurrentChannelsPerHost,
+                          @NotNull Duration healthCheckInterval) {
+        if (maxConcurrentChannelsPerHost < 1) {
+            throw new IllegalArgumentException("At least one channel per host has to be allowed");
+        }
+        if (healthCheckInterval.isNegative() || healthCheckInterval.isZero()) {
+            throw new IllegalArgumentException("The health check interval has to be positive");
+        }
+        this.jsch = Objects.requireNonNull(jsch);
+        this.configurer = Objects.requireNonNull(configurer);
+        this.maxConcurrentChannelsPerHost = maxConcurrentChannelsPerHost;
+        this.healthCheckInterval = healthCheckInterval;
+        maintenanceExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "SshSessionPool-maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalNanos = healthCheckInterval.toNanos();
+        maintenanceExecutor.scheduleWithFixedDelay(
+                this::maintainIdleSessions, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public int getMaxChannelsPerSession() {
+        return maxChannelsPerSession;
+    }
+
+    /**
+     * Sets the maximum number of channels to open on a single session at once. This limit must not exceed the limit
+     * of the SSH server (e.g. {@code MaxSessions} for OpenSSH).
+     */
+    public void setMaxChannelsPerSession(int maxChannelsPerSession) {
+        if (maxChannelsPerSession < 1) {
+            throw new IllegalArgumentException("At least one channel per session has to be allowed");
+        }
+        this.maxChannelsPerSession = maxChannelsPerSession;
+    }
+
+    public int getMaxConcurrentChannelsPerHost() {
+        return maxConcurrentChannelsPerHost;
+    }
+
+    @NotNull
+    public Duration getIdleTimeout() {
+        return Duration.ofNanos(idleTimeoutNanos);
+    }
+
+    public void setIdleTimeout(@NotNull Duration idleTimeout) {
+        if (idleTimeout.isNegative()) {
+            throw new IllegalArgumentException("The idle timeout must not be negative");
+        }
+        idleTimeoutNanos = idleTimeout.toNanos();
+    }
+
+    @NotNull
+    public Duration getHealthCheckInterval() {
+        return healthCheckInterval;
+    }
+
+    @NotNull
+    public Duration getConnectTimeout() {
+        return Duration.ofMillis(connectTimeoutMillis);
+    }
+
+    public void setConnectTimeout(@NotNull Duration connectTimeout) {
+        if (connectTimeout.isNegative() || connectTimeout.isZero()) {
+            throw new IllegalArgumentException("The connect timeout has to be positive");
+        }
+        connectTimeoutMillis = (int) Math.min(Integer.MAX_VALUE, connectTimeout.toMillis());
+    }
+
+    /**
+     * Opens a {@link ChannelExec} on a pooled session for the given host, user and port. If no pooled session has a
+     * free channel slot a new session is connected or the connection of a session by a concurrent call is awaited. The
+     * returned channel is not connected yet. Callers have to set its command and connect it. Closing the returned
+     * {@link PooledChannel} disconnects the channel and returns its slot to the pool but keeps the session alive.
+     *
+     * @param timeout The time to wait for a channel slot if {@link #getMaxConcurrentChannelsPerHost()} channels are
+     *                already open for the given host.
+     * @throws TimeoutException Thrown if no channel slot for the host became available within the given timeout.
+     * @throws JSchException    Thrown if connecting a new session or opening the channel failed.
+     */
+    @NotNull
+    public PooledChannel acquire(@NotNull String host, @NotNull String user, int port, @NotNull Duration timeout)
+            throws JSchException, InterruptedException, TimeoutException {
+        ensureOpen();
+        Semaphore permits = hostPermits.computeIfAbsent(host, h -> new Semaphore(maxConcurrentChannelsPerHost, true));
+        if (!permits.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+            throw new TimeoutException("No channel for " + host + " became available within " + timeout);
+        }
+        SessionKey key = new SessionKey(host, user, port);
+        List<PooledSession> keySessions = sessions.computeIfAbsent(key, k -> new ArrayList<>());
+        try {
+            while (true) {
+                PooledSession pooledSession = reserveSlot(keySessions);
+                boolean isNewSession = (pooledSession == null);
+                if (isNewSession) {
+                    PendingConnect ownConnect = new PendingConnect(maxChannelsPerSession);
+                    PendingConnect pendingConnect = pendingConnects.putIfAbsent(key, ownConnect);
+                    if (pendingConnect == null) {
+                        pooledSession = connectPending(key, keySessions, ownConnect);
+                    } else if (pendingConnect.claimSlot()) {
+                        pendingConnect.await();
+                        continue;
+                    } else {
+                        // NOTE 2026-10-20: The session being connected has no slot left for this channel
+                        pooledSession = connect(key);
+                        synchronized (keySessions) {
+                            keySessions.add(pooledSession);
+                        }
+                    }
+                }
+                try {
+                    return new PooledChannel(keySessions, pooledSession, permits, openExecChannel(pooledSession));
+                } catch (JSchException ex) {
+                    discard(keySessions, pooledSession);
+                    if (isNewSession) {
+                        throw ex;
+                    }
+                    LOGGER.log(Level.INFO, "Discarding a pooled session which failed to open a channel", ex);
+                }
+            }
+        } catch (JSchException | InterruptedException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    /**
+     * Executes the given command on a pooled session and reads its output using
+     * {@link IOUtility#readChannelContinuously(ChannelExec, Charset)}.
+     *
+     * @return A pair of output and error stream content.
+     * @see #acquire(String, String, int, Duration)
+     */
+    @NotNull
+    public Pair<String, String> execute(@NotNull String host, @NotNull String user, int port, @NotNull String command,
+                                        @NotNull Charset charset, @NotNull Duration timeout)
+            throws JSchException, IOException, InterruptedException, TimeoutException {
+        try (PooledChannel pooledChannel = acquire(host, user, port, timeout)) {
+            ChannelExec channel = pooledChannel.getChannel();
+            channel.setCommand(command);
+            channel.connect(connectTimeoutMillis);
+            return IOUtility.readChannelContinuously(channel, charset);
+        }
+    }
+
+    /**
+     * @return The number of sessions currently held by this pool.
+     */
+    public int getSessionCount() {
+        int count = 0;
+        for (List<PooledSession> keySessions : sessions.values()) {
+            synchronized (keySessions) {
+                count += keySessions.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Disconnects all pooled sessions and stops the maintenance of idle sessions. Channels which are still open are
+     * disconnected along with their sessions.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        maintenanceExecutor.shutdownNow();
+        for (List<PooledSession> keySessions : sessions.values()) {
+            synchronized (keySessions) {
+                keySessions.forEach(pooledSession -> pooledSession.session.disconnect());
+                keySessions.clear();
+            }
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("The pool is already closed");
+        }
+    }
+
+    /**
+     * @return The session with the most open channels which still has a free slot or {@code null} if there is none.
+     * Preferring busy sessions lets the remaining ones become idle and evictable.
+     */
+    private PooledSession reserveSlot(@NotNull List<PooledSession> keySessions) {
+        synchronized (keySessions) {
+            PooledSession best = null;
+            for (PooledSession candidate : keySessions) {
+                if (candidate.session.isConnected()
+                        && candidate.activeChannels < maxChannelsPerSession
+                        && (best == null || candidate.activeChannels > best.activeChannels)) {
+                    best = candidate;
+                }
+            }
+            if (best != null) {
+                best.activeChannels++;
+            }
+            return best;
+        }
+    }
+
+    /**
+     * Connects a new session for the given key unless a session connected since the caller registered
+     * {@code ownConnect} has a free slot. Finally, wakes up the acquisitions waiting for {@code ownConnect}.
+     */
+    @NotNull
+    private PooledSession connectPending(@NotNull SessionKey key, @NotNull List<PooledSession> keySessions,
+                                         @NotNull PendingConnect ownConnect) throws JSchException {
+        try {
+            PooledSession pooledSession = reserveSlot(keySessions);
+            if (pooledSession == null) {
+                pooledSession = connect(key);
+                synchronized (keySessions) {
+                    keySessions.add(pooledSession);
+                }
+            }
+            ownConnect.connected.complete(null);
+            return pooledSession;
+        } catch (JSchException | RuntimeException ex) {
+            ownConnect.connected.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            pendingConnects.remove(key, ownConnect);
+        }
+    }
+
+    @NotNull
+    private PooledSession connect(@NotNull SessionKey key) throws JSchException {
+        Session session = jsch.getSession(key.user, key.host, key.port);
+        session.setDaemonThread(true);
+        configurer.configure(session);
+        session.connect(connectTimeoutMillis);
+        PooledSession pooledSession = new PooledSession(session);
+        pooledSession.activeChannels = 1;
+        return pooledSession;
+    }
+
+    @NotNull
+    private static ChannelExec openExecChannel(@NotNull PooledSession pooledSession) throws JSchException {
+        return (ChannelExec) pooledSession.session.openChannel("exec");
+    }
+
+    private static void discard(@NotNull List<PooledSession> keySessions, @NotNull PooledSession pooledSession) {
+        synchronized (keySessions) {
+            keySessions.remove(pooledSession);
+        }
+        pooledSession.session.disconnect();
+    }
+
+    private void release(@NotNull List<PooledSession> keySessions, @NotNull PooledSession pooledSession) {
+        synchronized (keySessions) {
+            pooledSession.activeChannels--;
+            pooledSession.lastReleaseTime = System.nanoTime();
+        }
+        if (!pooledSession.session.isConnected()) {
+            discard(keySessions, pooledSession);
+        }
+    }
+
+    private void maintainIdleSessions() {
+        long now = System.nanoTime();
+        for (List<PooledSession> keySessions : sessions.values()) {
+            List<PooledSession> idleSessions = new ArrayList<>();
+            synchronized (keySessions) {
+                Iterator<PooledSession> iterator = keySessions.iterator();
+                while (iterator.hasNext()) {
+                    PooledSession pooledSession = iterator.next();
+                    if (pooledSession.activeChannels > 0) {
+                        continue;
+                    }
+                    if (!pooledSession.session.isConnected()
+                            || now - pooledSession.lastReleaseTime >= idleTimeoutNanos) {
+                        iterator.remove();
+                        pooledSession.session.disconnect();
+                    } else {
+                        idleSessions.add(pooledSession);
+                    }
+                }
+            }
+            // NOTE 2026-10-18: Keep-alive messages are sent outside the lock since they block on the socket
+            for (PooledSession pooledSession : idleSessions) {
+                try {
+                    pooledSession.session.sendKeepAliveMsg();
+                } catch (Exception ex) {
+                    LOGGER.log(Level.INFO, "Evicting a pooled session which failed its health check", ex);
+                    discard(keySessions, pooledSession);
+                }
+            }
+        }
+    }
+
+    /**
+     * Configures a {@link Session} before it connects.
+     */
+    @FunctionalInterface
+    public interface SessionConfigurer {
+        void configure(@NotNull Session session) throws JSchException;
+    }
+
+    /**
+     * A {@link ChannelExec} opened on a pooled session. Closing it disconnects the channel and returns its slot to the
+     * pool.
+     */
+    public final class PooledChannel implements AutoCloseable {
+        private final List<PooledSession> keySessions;
+        private final PooledSession pooledSession;
+        private final Semaphore permits;
+        private final ChannelExec channel;
+        private boolean released = false;
+
+        private PooledChannel(@NotNull List<PooledSession> keySessions, @NotNull PooledSession pooledSession,
+                              @NotNull Semaphore permits, @NotNull ChannelExec channel) {
+            this.keySessions = keySessions;
+            this.pooledSession = pooledSession;
+            this.permits = permits;
+            this.channel = channel;
+        }
+
+        @NotNull
+        public ChannelExec getChannel() {
+            return channel;
+        }
+
+        @Override
+        public synchronized void close() {
+            if (!released) {
+                released = true;
+                channel.disconnect();
+                release(keySessions, pooledSession);
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * A session being connected for a key. Further acquisitions for the key wait for it instead of performing their own
+     * handshake as long as it has slots left which are not claimed by other waiting acquisitions.
+     */
+    private static final class PendingConnect {
+        private final CompletableFuture<Void> connected = new CompletableFuture<>();
+        private final AtomicInteger unclaimedSlots;
+
+        private PendingConnect(int maxChannelsPerSession) {
+            // NOTE 2026-10-20: The acquisition connecting the session occupies one of its slots itself
+            unclaimedSlots = new AtomicInteger(maxChannelsPerSession - 1);
+        }
+
+        private boolean claimSlot() {
+            return unclaimedSlots.getAndUpdate(slots -> Math.max(0, slots - 1)) > 0;
+        }
+
+        private void await() throws JSchException, InterruptedException {
+            try {
+                connected.get();
+            } catch (ExecutionException ex) {
+                throw new JSchException("Connecting the session shared with other channels failed", ex.getCause());
+            }
+        }
+    }
+
+    private static final class PooledSession {
+        private final Session session;
+        private int activeChannels = 0;
+        private long lastReleaseTime = System.nanoTime();
+
+        private PooledSession(@NotNull Session session) {
+            this.session = session;
+        }
+    }
+
+    private static final class SessionKey {
+        private final String host;
+        private final String user;
+        private final int port;
+
+        private SessionKey(@NotNull String host, @NotNull String user, int port) {
+            this.host = Objects.requireNonNull(host);
+            this.user = Objects.requireNonNull(user);
+            this.port = port;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof SessionKey otherKey)) {
+                return false;
+            }
+            return port == otherKey.port && host.equals(otherKey.host) && user.equals(otherKey.user);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(host, user, port);
+        }
+    }
+}
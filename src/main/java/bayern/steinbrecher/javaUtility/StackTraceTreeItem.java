@@ -0,0 +1,182 @@
+package bayern.steinbrecher.javaUtility;
+
+import javafx.collections.ObservableList;
+import javafx.scene.control.TreeItem;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * A {@link TreeItem} representing a {@link Throwable} in the same structure {@link Throwable#printStackTrace()} uses.
+ * Its children are created only when they are requested for the first time, i.e. when the item is expanded. Runs of
+ * repeated frames (e.g. caused by recursion) are collapsed into a single entry and large numbers of frames are grouped
+ * into chunks. Hence, even huge stack traces can be shown instantly in a {@link javafx.scene.control.TreeView}.
+ *
+ * @author Stefan Huber
+ * @since 0.19
+ */
+final class StackTraceTreeItem extends TreeItem<String> {
+    private static final int MAX_REPEATED_BLOCK_SIZE = 32;
+    private static final int MIN_REPETITIONS = 2;
+    private static final int CHUNK_SIZE = 256;
+    private final Supplier<List<TreeItem<String>>> childrenSupplier;
+    private boolean childrenCreated = false;
+
+    private StackTraceTreeItem(@NotNull String value, @Nullable Supplier<List<TreeItem<String>>> childrenSupplier) {
+        super(value);
+        this.childrenSupplier = childrenSupplier;
+    }
+
+    /**
+     * Creates the root item representing the given {@link Throwable}.
+     */
+    @NotNull
+    static StackTraceTreeItem of(@NotNull Throwable throwable) {
+        Set<Throwable> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        return ofThrowable(throwable, "", new StackTraceElement[0], visited);
+    }
+
+    @NotNull
+    private static StackTraceTreeItem ofThrowable(@NotNull Throwable throwable, @NotNull String prefix,
+                                                  @NotNull StackTraceElement[] enclosingTrace,
+                                                  @NotNull Set<Throwable> visited) {
+        StackTraceTreeItem item;
+        if (visited.add(throwable)) {
+            item = new StackTraceTreeItem(prefix + throwable, () -> createThrowableEntries(
+                    throwable, enclosingTrace, visited));
+        } else {
+            item = new StackTraceTreeItem("[CIRCULAR REFERENCE: " + throwable + "]", null);
+        }
+        return item;
+    }
+
+    @NotNull
+    private static List<TreeItem<String>> createThrowableEntries(@NotNull Throwable throwable,
+                                                                 @NotNull StackTraceElement[] enclosingTrace,
+                                                                 @NotNull Set<Throwable> visited) {
+        StackTraceElement[] trace = throwable.getStackTrace();
+        // Determine the frames in common with the enclosing trace like Throwable#printStackTrace() does
+        int lastUnique = trace.length - 1;
+        int lastEnclosing = enclosingTrace.length - 1;
+        while (lastUnique >= 0 && lastEnclosing >= 0 && trace[lastUnique].equals(enclosingTrace[lastEnclosing])) {
+            lastUnique--;
+            lastEnclosing--;
+        }
+        int framesInCommon = trace.length - 1 - lastUnique;
+
+        List<TreeItem<String>> entries = chunk(collapseRepetitions(trace, lastUnique + 1), 0);
+        if (framesInCommon > 0) {
+            entries.add(new StackTraceTreeItem("... " + framesInCommon + " more", null));
+        }
+        for (Throwable suppressed : throwable.getSuppressed()) {
+            entries.add(ofThrowable(suppressed, "Suppressed: ", trace, visited));
+        }
+        Throwable cause = throwable.getCause();
+        if (cause != null) {
+            entries.add(ofThrowable(cause, "Caused by: ", trace, visited));
+        }
+        return entries;
+    }
+
+    /**
+     * Creates a line for each of the first {@code length} frames where consecutively repeated blocks of frames are
+     * represented by only the first occurrence of the block followed by a single entry summarizing its repetitions.
+     */
+    @NotNull
+    private static List<String> collapseRepetitions(@NotNull StackTraceElement[] trace, int length) {
+        List<String> entries = new ArrayList<>();
+        int index = 0;
+        while (index < length) {
+            int bestBlockSize = 0;
+            int bestRepetitions = 0;
+            for (int blockSize = 1; blockSize <= MAX_REPEATED_BLOCK_SIZE && index + 2 * blockSize <= length;
+                 blockSize++) {
+                int repetitions = 1;
+                while (isRepeated(trace, index, blockSize, repetitions, length)) {
+                    repetitions++;
+                }
+                if (repetitions >= MIN_REPETITIONS && repetitions * blockSize > bestRepetitions * bestBlockSize) {
+                    bestBlockSize = blockSize;
+                    bestRepetitions = repetitions;
+                }
+            }
+            if (bestBlockSize > 0) {
+                for (int i = index; i < index + bestBlockSize; i++) {
+                    entries.add("at " + trace[i]);
+                }
+                entries.add("... the previous " + bestBlockSize + " frame(s) repeated " + (bestRepetitions - 1)
+                        + " more time(s)");
+                index += bestBlockSize * bestRepetitions;
+            } else {
+                entries.add("at " + trace[index]);
+                index++;
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Checks whether the block of frames at {@code start} appears once more after it already appeared
+     * {@code repetitions} times consecutively.
+     */
+    private static boolean isRepeated(@NotNull StackTraceElement[] trace, int start, int blockSize, int repetitions,
+                                      int length) {
+        int offset = start + repetitions * blockSize;
+        boolean repeated = offset + blockSize <= length;
+        for (int i = 0; repeated && i < blockSize; i++) {
+            repeated = trace[start + i].equals(trace[offset + i]);
+        }
+        return repeated;
+    }
+
+    /**
+     * Creates an item for each of the given entries or groups them recursively into chunks of at most
+     * {@link #CHUNK_SIZE} entries if there are too many. The items of a chunk are created when it is expanded.
+     *
+     * @param firstIndex The index of the first entry within all entries of the enclosing {@link Throwable}.
+     */
+    @NotNull
+    private static List<TreeItem<String>> chunk(@NotNull List<String> entries, int firstIndex) {
+        List<TreeItem<String>> chunked = new ArrayList<>();
+        if (entries.size() <= CHUNK_SIZE) {
+            for (String entry : entries) {
+                chunked.add(new StackTraceTreeItem(entry, null));
+            }
+        } else {
+            int entriesPerChunk = CHUNK_SIZE;
+            while ((entries.size() + entriesPerChunk - 1) / entriesPerChunk > CHUNK_SIZE) {
+                entriesPerChunk *= CHUNK_SIZE;
+            }
+            for (int start = 0; start < entries.size(); start += entriesPerChunk) {
+                List<String> chunkEntries = entries.subList(start, Math.min(entries.size(), start + entriesPerChunk));
+                int chunkFirstIndex = firstIndex + start;
+                chunked.add(new StackTraceTreeItem(
+                        "[entries " + (chunkFirstIndex + 1) + " - " + (chunkFirstIndex + chunkEntries.size()) + "]",
+                        () -> chunk(chunkEntries, chunkFirstIndex)));
+            }
+        }
+        return chunked;
+    }
+
+    @Override
+    public boolean isLeaf() {
+        return childrenSupplier == null;
+    }
+
+    @Override
+    public ObservableList<TreeItem<String>> getChildren() {
+        if (!childrenCreated) {
+            childrenCreated = true;
+            if (childrenSupplier != null) {
+                super.getChildren().setAll(childrenSupplier.get());
+            }
+        }
+        return super.getChildren();
+    }
+}
@@ -1,5 +1,7 @@
 package bayern.steinbrecher.javaUtility;
 
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
 import javafx.scene.Scene;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
@@ -10,6 +12,10 @@ import javafx.stage.Window;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * @author Stefan Huber
  * @since 0.18
@@ -18,8 +24,12 @@ public final class StageFactory {
     private final Image defaultIcon;
     private final Modality defaultModality;
     private final StageStyle defaultStageStyle;
-    private final String defaultStylesheetPath;
+    private final List<String> defaultStylesheets;
     private final Window defaultOwner;
+    private final AtomicBoolean preloadStarted = new AtomicBoolean(false);
+    private final CompletableFuture<Void> stylesheetsPreloaded = new CompletableFuture<>();
+    private final CompletableFuture<Void> iconPreloaded = new CompletableFuture<>();
+    private final CompletableFuture<Void> preloaded = CompletableFuture.allOf(stylesheetsPreloaded, iconPreloaded);
 
     public StageFactory(@NotNull Modality defaultModality, @NotNull StageStyle defaultStageStyle,
                         @Nullable Image defaultIcon, @Nullable String defaultStylesheetPath,
@@ -27,13 +37,99 @@ public final class StageFactory {
         this.defaultIcon = defaultIcon;
         this.defaultModality = defaultModality;
         this.defaultStageStyle = defaultStageStyle;
-        this.defaultStylesheetPath = defaultStylesheetPath;
+        this.defaultStylesheets = (defaultStylesheetPath == null) ? List.of() : List.of(defaultStylesheetPath);
         this.defaultOwner = defaultOwner;
     }
 
+    /**
+     * Creates and initializes a {@link Stage} within a single pass to the JavaFX application thread. This method may be
+     * called on any thread and blocks until the {@link Stage} is created.
+     */
     @NotNull
     public Stage create() {
-        Stage stage = PlatformUtility.runLaterBlocking(Stage::new, null);
+        return PlatformUtility.runLaterBlocking(this::createOnFxThread, null);
+    }
+
+    /**
+     * Same as {@link #create()} but does not block.
+     *
+     * @since 0.19
+     */
+    @NotNull
+    public CompletableFuture<Stage> createAsync() {
+        CompletableFuture<Stage> stage = new CompletableFuture<>();
+        PlatformUtility.runLaterBatched(() -> {
+            try {
+                stage.complete(createOnFxThread());
+            } catch (RuntimeException ex) {
+                stage.completeExceptionally(ex);
+            }
+        });
+        return stage;
+    }
+
+    /**
+     * Loads the default stylesheet and the default icon of this factory in advance. Hence, the first {@link Stage}
+     * created by this factory does not have to wait for them. Subsequent calls have no effect. This method may be
+     * called on any thread and does not block.
+     *
+     * @return A {@link CompletableFuture} which completes as soon as the resources are loaded.
+     * @since 0.19
+     */
+    @NotNull
+    public CompletableFuture<Void> preload() {
+        if (preloadStarted.compareAndSet(false, true)) {
+            PlatformUtility.runLaterBatched(() -> {
+                try {
+                    /* NOTE 2026-10-18: Applying the CSS of a throwaway scene makes JavaFX parse the stylesheets and
+                     * cache the result for all further scenes using them.
+                     */
+                    Label placeholder = new Label();
+                    new Scene(placeholder).getStylesheets()
+                            .addAll(defaultStylesheets);
+                    placeholder.applyCss();
+                    stylesheetsPreloaded.complete(null);
+                } catch (RuntimeException ex) {
+                    stylesheetsPreloaded.completeExceptionally(ex);
+                }
+                awaitDefaultIcon();
+            });
+        }
+        return preloaded;
+    }
+
+    /**
+     * Completes {@link #iconPreloaded} as soon as the default icon is loaded. The properties of the icon are updated
+     * on the JavaFX application thread. Hence, this method has to be called on it as well.
+     */
+    private void awaitDefaultIcon() {
+        if (defaultIcon == null) {
+            iconPreloaded.complete(null);
+        } else {
+            InvalidationListener loadingListener = new InvalidationListener() {
+                @Override
+                public void invalidated(Observable observable) {
+                    if (defaultIcon.getProgress() >= 1 || defaultIcon.isError()) {
+                        defaultIcon.progressProperty()
+                                .removeListener(this);
+                        defaultIcon.errorProperty()
+                                .removeListener(this);
+                        iconPreloaded.complete(null);
+                    }
+                }
+            };
+            defaultIcon.progressProperty()
+                    .addListener(loadingListener);
+            defaultIcon.errorProperty()
+                    .addListener(loadingListener);
+            // NOTE The icon may have finished loading before registering the listener
+            loadingListener.invalidated(null);
+        }
+    }
+
+    @NotNull
+    private Stage createOnFxThread() {
+        Stage stage = new Stage();
         stage.initOwner(defaultOwner);
         stage.initModality(defaultModality);
         stage.initStyle(defaultStageStyle);
@@ -42,14 +138,9 @@ public final class StageFactory {
                     .add(defaultIcon);
         }
         Scene scene = new Scene(new Label("Not content specified yet"));
-        if (defaultStylesheetPath != null) {
-            scene.getStylesheets()
-                    .add(defaultStylesheetPath);
-        }
-        PlatformUtility.runLaterBlocking(() -> {
-            stage.setScene(scene);
-            return null;
-        }, null);
+        scene.getStylesheets()
+                .addAll(defaultStylesheets);
+        stage.setScene(scene);
         return stage;
     }
 }
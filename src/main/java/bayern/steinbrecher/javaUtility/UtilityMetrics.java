@@ -0,0 +1,263 @@
+package bayern.steinbrecher.javaUtility;
+
+import org.jetbrains.annotations.NotNull;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects metrics about the work done by the utility classes of this library like the number of bytes
+ * {@link IOUtility} read and wrote or the time {@link XMLUtility} spent on validation. Counters are striped (see
+ * {@link LongAdder}) and durations are recorded in {@link LatencyHistogram}s. Hence, recording neither allocates
+ * memory nor blocks. The metrics are available via {@link #snapshot()} and JMX (see {@link #registerMBean()}).
+ * Metrics are collected by default. The collection can be switched off using {@link #setEnabled(boolean)} or by
+ * setting the system property {@value #DISABLED_PROPERTY} to {@code true}. While switched off recording a metric only
+ * reads a volatile flag.
+ *
+ * @author Stefan Huber
+ * @since 0.19
+ */
+public final class UtilityMetrics {
+    public static final String DISABLED_PROPERTY = "bayern.steinbrecher.javaUtility.metrics.disabled";
+    private static final String MBEAN_NAME = "bayern.steinbrecher.javaUtility:type=UtilityMetrics";
+    private static final LongAdder[] COUNTERS = new LongAdder[Counter.values().length];
+    private static final LatencyHistogram[] TIMERS = new LatencyHistogram[Timer.values().length];
+    private static volatile boolean enabled = !Boolean.getBoolean(DISABLED_PROPERTY);
+
+    static {
+        for (int i = 0; i < COUNTERS.length; i++) {
+            COUNTERS[i] = new LongAdder();
+        }
+        for (int i = 0; i < TIMERS.length; i++) {
+            TIMERS[i] = new LatencyHistogram();
+        }
+    }
+
+    private UtilityMetrics() {
+        throw new UnsupportedOperationException("The construction of instances is prohibited");
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        UtilityMetrics.enabled = enabled;
+    }
+
+    static void increment(@NotNull Counter counter) {
+        add(counter, 1);
+    }
+
+    static void add(@NotNull Counter counter, long delta) {
+        if (enabled) {
+            COUNTERS[counter.ordinal()].add(delta);
+        }
+    }
+
+    /**
+     * @return The start time to pass to {@link #stopTimer(Timer, long)} or {@code 0} if metrics are disabled.
+     */
+    static long startTimer() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    static void stopTimer(@NotNull Timer timer, long startTime) {
+        if (enabled && startTime != 0) {
+            TIMERS[timer.ordinal()].record(System.nanoTime() - startTime);
+        }
+    }
+
+    public static long getCount(@NotNull Counter counter) {
+        return COUNTERS[counter.ordinal()].sum();
+    }
+
+    @NotNull
+    public static LatencyHistogram getHistogram(@NotNull Timer timer) {
+        return TIMERS[timer.ordinal()];
+    }
+
+    /**
+     * @return The current value of every counter and a summary of every timer. The keys are the lower case names of
+     * the counters and timers where the keys of timers are suffixed with the name of the summarized value.
+     */
+    @NotNull
+    public static Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new LinkedHashMap<>();
+        for (Counter counter : Counter.values()) {
+            snapshot.put(counter.name().toLowerCase(Locale.ROOT), getCount(counter));
+        }
+        for (Timer timer : Timer.values()) {
+            String prefix = timer.name().toLowerCase(Locale.ROOT) + ".";
+            LatencyHistogram histogram = getHistogram(timer);
+            snapshot.put(prefix + "count", histogram.getCount());
+            snapshot.put(prefix + "meanNanos", histogram.getMeanNanos());
+            snapshot.put(prefix + "p50Nanos", histogram.getPercentileNanos(0.5));
+            snapshot.put(prefix + "p99Nanos", histogram.getPercentileNanos(0.99));
+            snapshot.put(prefix + "maxNanos", histogram.getMaxNanos());
+        }
+        return snapshot;
+    }
+
+    public static void reset() {
+        for (LongAdder counter : COUNTERS) {
+            counter.reset();
+        }
+        for (LatencyHistogram timer : TIMERS) {
+            timer.reset();
+        }
+    }
+
+    /**
+     * Registers a {@link UtilityMetricsMXBean} at the platform MBean server.
+     *
+     * @throws JMException Thrown if the MBean could not be registered, e.g. if it is already registered.
+     */
+    public static void registerMBean() throws JMException {
+        ManagementFactory.getPlatformMBeanServer()
+                .registerMBean(new MetricsMXBean(), new ObjectName(MBEAN_NAME));
+    }
+
+    /**
+     * Unregisters the {@link UtilityMetricsMXBean} from the platform MBean server.
+     *
+     * @throws JMException Thrown if the MBean is not registered.
+     */
+    public static void unregisterMBean() throws JMException {
+        ManagementFactory.getPlatformMBeanServer()
+                .unregisterMBean(new ObjectName(MBEAN_NAME));
+    }
+
+    public enum Counter {
+        /**
+         * Bytes read by {@link IOUtility}.
+         */
+        BYTES_READ,
+        /**
+         * Bytes written by {@link IOUtility}.
+         */
+        BYTES_WRITTEN,
+        /**
+         * Timeouts while waiting for data in {@link IOUtility#readAll(java.io.InputStream, java.nio.charset.Charset)}.
+         */
+        READ_TIMEOUTS,
+        /**
+         * XML documents {@link XMLUtility} found valid.
+         */
+        VALID_XML,
+        /**
+         * XML documents {@link XMLUtility} found invalid. Validations which failed with an exception are not counted.
+         */
+        INVALID_XML,
+        /**
+         * Tasks {@link PlatformUtility} dispatched to the FX application thread.
+         */
+        FX_TASKS_DISPATCHED,
+        /**
+         * Batches {@link PlatformUtility} used to run dispatched tasks on the FX application thread.
+         */
+        FX_BATCHES,
+        /**
+         * Alerts shown via {@link DialogFactory}.
+         */
+        DIALOGS_SHOWN,
+        /**
+         * Alerts {@link DialogFactory} suppressed due to its rate limit.
+         */
+        DIALOGS_SUPPRESSED
+    }
+
+    public enum Timer {
+        /**
+         * Duration of validations performed by {@link XMLUtility} including those which failed with an exception.
+         */
+        XML_VALIDATION
+    }
+
+    private static final class MetricsMXBean implements UtilityMetricsMXBean {
+        @Override
+        public boolean isEnabled() {
+            return UtilityMetrics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            UtilityMetrics.setEnabled(enabled);
+        }
+
+        @Override
+        public long getBytesRead() {
+            return getCount(Counter.BYTES_READ);
+        }
+
+        @Override
+        public long getBytesWritten() {
+            return getCount(Counter.BYTES_WRITTEN);
+        }
+
+        @Override
+        public long getReadTimeouts() {
+            return getCount(Counter.READ_TIMEOUTS);
+        }
+
+        @Override
+        public long getValidXmlCount() {
+            return getCount(Counter.VALID_XML);
+        }
+
+        @Override
+        public long getInvalidXmlCount() {
+            return getCount(Counter.INVALID_XML);
+        }
+
+        @Override
+        public long getXmlValidationMeanNanos() {
+            return getHistogram(Timer.XML_VALIDATION).getMeanNanos();
+        }
+
+        @Override
+        public long getXmlValidationP99Nanos() {
+            return getHistogram(Timer.XML_VALIDATION).getPercentileNanos(0.99);
+        }
+
+        @Override
+        public long getXmlValidationMaxNanos() {
+            return getHistogram(Timer.XML_VALIDATION).getMaxNanos();
+        }
+
+        @Override
+        public long getFxTasksDispatched() {
+            return getCount(Counter.FX_TASKS_DISPATCHED);
+        }
+
+        @Override
+        public long getFxBatches() {
+            return getCount(Counter.FX_BATCHES);
+        }
+
+        @Override
+        public long getDialogsShown() {
+            return getCount(Counter.DIALOGS_SHOWN);
+        }
+
+        @Override
+        public long getDialogsSuppressed() {
+            return getCount(Counter.DIALOGS_SUPPRESSED);
+        }
+
+        @Override
+        public Map<String, Long> getSnapshot() {
+            return snapshot();
+        }
+
+        @Override
+        public void reset() {
+            UtilityMetrics.reset();
+        }
+    }
+}
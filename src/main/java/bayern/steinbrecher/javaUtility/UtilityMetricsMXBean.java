@@ -0,0 +1,43 @@
+package bayern.steinbrecher.javaUtility;
+
+import java.util.Map;
+
+/**
+ * JMX view on {@link UtilityMetrics}.
+ *
+ * @author Stefan Huber
+ * @since 0.19
+ */
+public interface UtilityMetricsMXBean {
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    long getBytesRead();
+
+    long getBytesWritten();
+
+    long getReadTimeouts();
+
+    long getValidXmlCount();
+
+    long getInvalidXmlCount();
+
+    long getXmlValidationMeanNanos();
+
+    long getXmlValidationP99Nanos();
+
+    long getXmlValidationMaxNanos();
+
+    long getFxTasksDispatched();
+
+    long getFxBatches();
+
+    long getDialogsShown();
+
+    long getDialogsSuppressed();
+
+    Map<String, Long> getSnapshot();
+
+    void reset();
+}
@@ -50,6 +50,20 @@ public final class XMLUtility {
      * @throws IOException If any I/O error occurs.
      */
     public static Optional<String> isValidXML(String xml, URL schema) throws SAXException, IOException {
+        long validationStart = UtilityMetrics.startTimer();
+        try {
+            Optional<String> validationResult = validate(xml, schema);
+            UtilityMetrics.increment(validationResult.isEmpty()
+                    ? UtilityMetrics.Counter.VALID_XML
+                    : UtilityMetrics.Counter.INVALID_XML);
+            return validationResult;
+        } finally {
+            // NOTE 2026-10-20: Validations which failed with an exception took their time as well
+            UtilityMetrics.stopTimer(UtilityMetrics.Timer.XML_VALIDATION, validationStart);
+        }
+    }
+
+    private static Optional<String> validate(String xml, URL schema) throws SAXException, IOException {
         DocumentBuilderFactory xmlBuilderFactory = DocumentBuilderFactory.newInstance();
         xmlBuilderFactory.setIgnoringComments(true);
         xmlBuilderFactory.setNamespaceAware(true);
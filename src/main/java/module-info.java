@@ -3,6 +3,7 @@ module bayern.steinbrecher.Utility {
 
     requires bayern.steinbrecher.jsch;
     requires java.logging;
+    requires java.management;
     requires java.xml;
     requires javafx.base;
     requires javafx.controls;